@@ -0,0 +1,33 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드 모드와 가상 스레드 모드를 같은 부하로 각각 실행해서 처리량 / p99 를 비교
+# 필요: 빌드된 bootJar, k6, DB_URL / DB_USERNAME / DB_PASSWORD / JWT_SECRET 환경 변수
+set -euo pipefail
+
+JAR=${JAR:-$(ls build/libs/*.jar | head -n 1)}
+PORT=${PORT:-8080}
+OUT_DIR=${OUT_DIR:-build/reports/perf}
+mkdir -p "$OUT_DIR"
+
+run_mode() {
+    local mode=$1 virtual=$2
+    VIRTUAL_THREADS_ENABLED=$virtual java -jar "$JAR" --server.port="$PORT" > "$OUT_DIR/app-$mode.log" 2>&1 &
+    local pid=$!
+    trap 'kill $pid 2>/dev/null || true' RETURN
+
+    until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do sleep 1; done
+
+    k6 run --quiet -e BASE_URL="http://localhost:$PORT" \
+        --summary-export "$OUT_DIR/summary-$mode.json" perf/mixed-login.js
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+}
+
+run_mode platform false
+run_mode virtual true
+
+for mode in platform virtual; do
+    echo "== $mode"
+    jq -r '.metrics | "requests/s: \(.http_reqs.rate)\np99(ms):    \(.http_req_duration["p(99)"])"' \
+        "$OUT_DIR/summary-$mode.json"
+done
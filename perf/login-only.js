@@ -0,0 +1,40 @@
+// k6 부하 스크립트: 로그인만 목표 처리량으로 보내서 실제로 처리된 로그인 수를 확인
+// 실행: k6 run -e BASE_URL=http://localhost:8080 -e LOGIN_RATE=200 perf/login-only.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const USER_COUNT = 20;
+
+export const options = {
+    scenarios: {
+        login: {
+            executor: 'constant-arrival-rate',
+            rate: Number(__ENV.LOGIN_RATE || 200),
+            timeUnit: '1s',
+            duration: __ENV.DURATION || '60s',
+            preAllocatedVUs: 200,
+            maxVUs: 1000,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(99)', 'max'],
+};
+
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+function credentials(i) {
+    return { email: `perf-${i}@memoreal.com`, password: 'perf-password', username: `perf-${i}` };
+}
+
+export function setup() {
+    for (let i = 0; i < USER_COUNT; i++) {
+        http.post(`${BASE_URL}/api/users/join`, JSON.stringify(credentials(i)), JSON_HEADERS);
+    }
+}
+
+export default function () {
+    const user = credentials(Math.floor(Math.random() * USER_COUNT));
+    const res = http.post(`${BASE_URL}/api/users/login`,
+        JSON.stringify({ email: user.email, password: user.password }), JSON_HEADERS);
+    check(res, { 'login 200': (r) => r.status === 200 });
+}
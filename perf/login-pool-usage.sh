@@ -0,0 +1,32 @@
+#!/usr/bin/env bash
+# 작은 커넥션 풀(POOL_SIZE)로 로그인 부하를 주고, 처리량과 커넥션 대기/점유 시간을 함께 기록
+# 커밋 전/후 jar 로 각각 실행해서 비교: JAR=build/libs/before.jar TAG=before perf/login-pool-usage.sh
+# 필요: 빌드된 bootJar, k6, DB_URL / DB_USERNAME / DB_PASSWORD / JWT_SECRET 환경 변수
+set -euo pipefail
+
+JAR=${JAR:-$(ls build/libs/*.jar | head -n 1)}
+TAG=${TAG:-latest}
+PORT=${PORT:-8080}
+OUT_DIR=${OUT_DIR:-build/reports/perf}
+POOL_SIZE=${POOL_SIZE:-4}
+# /actuator/prometheus 는 인증이 필요하므로 이 실행에서만 쓰는 스크레이프 토큰을 넘김
+SCRAPE_TOKEN=${SCRAPE_TOKEN:-perf-$RANDOM$RANDOM}
+mkdir -p "$OUT_DIR"
+
+java -jar "$JAR" --server.port="$PORT" --spring.datasource.hikari.maximum-pool-size="$POOL_SIZE" \
+    --memoreal.metrics.scrape-token="$SCRAPE_TOKEN" > "$OUT_DIR/app-login-$TAG.log" 2>&1 &
+pid=$!
+trap 'kill $pid 2>/dev/null || true' EXIT
+
+until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do sleep 1; done
+
+k6 run --quiet -e BASE_URL="http://localhost:$PORT" \
+    --summary-export "$OUT_DIR/summary-login-$TAG.json" perf/login-only.js
+
+curl -sf -H "Authorization: Bearer $SCRAPE_TOKEN" "http://localhost:$PORT/actuator/prometheus" | grep -E '^hikaricp_connections_(acquire|usage)_seconds_(sum|count|max)' \
+    > "$OUT_DIR/hikari-login-$TAG.txt"
+
+echo "== $TAG (pool size $POOL_SIZE)"
+jq -r '.metrics | "logins/s:  \(.http_reqs.rate)\ndropped:   \(.dropped_iterations.count // 0)\np99(ms):   \(.http_req_duration["p(99)"])"' \
+    "$OUT_DIR/summary-login-$TAG.json"
+cat "$OUT_DIR/hikari-login-$TAG.txt"
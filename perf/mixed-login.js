@@ -0,0 +1,66 @@
+// k6 부하 스크립트: 로그인(BCrypt) 과 가벼운 /api/users/test 요청을 섞어서 보냄
+// 실행: k6 run -e BASE_URL=http://localhost:8080 perf/mixed-login.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const USER_COUNT = 20;
+
+export const options = {
+    scenarios: {
+        login: {
+            executor: 'constant-arrival-rate',
+            exec: 'login',
+            rate: Number(__ENV.LOGIN_RATE || 50),
+            timeUnit: '1s',
+            duration: __ENV.DURATION || '60s',
+            preAllocatedVUs: 100,
+            maxVUs: 500,
+        },
+        test: {
+            executor: 'constant-arrival-rate',
+            exec: 'test',
+            rate: Number(__ENV.TEST_RATE || 500),
+            timeUnit: '1s',
+            duration: __ENV.DURATION || '60s',
+            preAllocatedVUs: 100,
+            maxVUs: 500,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(99)', 'max'],
+};
+
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+function credentials(i) {
+    return { email: `perf-${i}@memoreal.com`, password: 'perf-password', username: `perf-${i}` };
+}
+
+export function setup() {
+    const tokens = [];
+    for (let i = 0; i < USER_COUNT; i++) {
+        const user = credentials(i);
+        http.post(`${BASE_URL}/api/users/join`, JSON.stringify(user), JSON_HEADERS);
+        const res = http.post(`${BASE_URL}/api/users/login`,
+            JSON.stringify({ email: user.email, password: user.password }), JSON_HEADERS);
+        tokens.push(res.json('accessToken'));
+    }
+    return { tokens };
+}
+
+export function login() {
+    const user = credentials(Math.floor(Math.random() * USER_COUNT));
+    const res = http.post(`${BASE_URL}/api/users/login`,
+        JSON.stringify({ email: user.email, password: user.password }),
+        Object.assign({ tags: { endpoint: 'login' } }, JSON_HEADERS));
+    check(res, { 'login 200': (r) => r.status === 200 });
+}
+
+export function test(data) {
+    const token = data.tokens[Math.floor(Math.random() * data.tokens.length)];
+    const res = http.post(`${BASE_URL}/api/users/test`, null, {
+        headers: { Authorization: `Bearer ${token}` },
+        tags: { endpoint: 'test' },
+    });
+    check(res, { 'test 200': (r) => r.status === 200 });
+}
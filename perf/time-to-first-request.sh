@@ -0,0 +1,54 @@
+#!/usr/bin/env bash
+# 프로세스 시작부터 첫 요청이 성공할 때까지의 시간(ms)을 모드별로 측정
+#   plain: 기존 방식 (java -jar)
+#   aot:   Spring AOT 결과 사용
+#   cds:   AOT + CDS 아카이브 (아카이브가 없으면 먼저 학습 실행으로 만듦)
+# 필요: 빌드된 bootJar, DB_URL / DB_USERNAME / DB_PASSWORD / JWT_SECRET 환경 변수
+set -euo pipefail
+
+JAR=${JAR:-$(ls build/libs/*.jar | head -n 1)}
+PORT=${PORT:-8080}
+RUNS=${RUNS:-5}
+OUT_DIR=${OUT_DIR:-build/reports/perf}
+WORK_DIR=${WORK_DIR:-build/startup}
+mkdir -p "$OUT_DIR"
+
+rm -rf "$WORK_DIR"
+java -Djarmode=tools -jar "$JAR" extract --destination "$WORK_DIR"
+APP_JAR="$WORK_DIR/$(basename "$JAR")"
+
+if [ ! -f "$WORK_DIR/app.jsa" ]; then
+    java -XX:ArchiveClassesAtExit="$WORK_DIR/app.jsa" -Dspring.aot.enabled=true -Dspring.profiles.active=prod \
+        -Dspring.context.exit=onRefresh -Dmemoreal.startup.training-run=true \
+        -jar "$APP_JAR" > "$OUT_DIR/startup-training.log" 2>&1
+fi
+
+now_ms() {
+    date +%s%3N
+}
+
+measure() {
+    local mode=$1
+    shift
+    local start
+    start=$(now_ms)
+    java "$@" -jar "$APP_JAR" --server.port="$PORT" > "$OUT_DIR/startup-$mode.log" 2>&1 &
+    local pid=$!
+    until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do sleep 0.05; done
+    echo $(( $(now_ms) - start ))
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+}
+
+for mode in plain aot cds; do
+    case $mode in
+        plain) opts=() ;;
+        aot) opts=(-Dspring.aot.enabled=true -Dspring.profiles.active=prod) ;;
+        cds) opts=(-XX:SharedArchiveFile="$WORK_DIR/app.jsa" -Dspring.aot.enabled=true -Dspring.profiles.active=prod) ;;
+    esac
+    results=()
+    for _ in $(seq "$RUNS"); do
+        results+=("$(measure "$mode" "${opts[@]}")")
+    done
+    printf '%s\n' "${results[@]}" | sort -n | awk -v mode="$mode" '{ a[NR] = $1 } END { printf "%-6s median %d ms (min %d, max %d)\n", mode, a[int((NR + 1) / 2)], a[1], a[NR] }'
+done
@@ -0,0 +1,23 @@
+#!/usr/bin/env bash
+# 기준 장비에서 부하 테스트 기준값(perf/loadtest-baseline.json)을 다시 측정
+# 장비 설명(CPU 모델, 코어 수, 메모리)을 자동으로 채워서 measuredOn 에 기록하므로 결과 파일을 그대로 커밋하면 됨
+# 사용: perf/update-loadtest-baseline.sh ["추가 설명"]   (예: "c6i.xlarge, 전용 호스트")
+# 필요: JDK 21, 다른 부하가 없는 장비
+set -euo pipefail
+
+NOTE=${1:-}
+CPU=$(grep -m1 'model name' /proc/cpuinfo 2>/dev/null | cut -d: -f2 | sed 's/^ *//' || true)
+CPU=${CPU:-$(uname -m)}
+CORES=$(nproc)
+MEM_GB=$(awk '/MemTotal/ {printf "%.0f", $2 / 1048576}' /proc/meminfo 2>/dev/null || echo "?")
+MACHINE="$CPU, $CORES cores, ${MEM_GB} GB RAM${NOTE:+, $NOTE}"
+
+echo "== measuring baseline on: $MACHINE"
+./gradlew loadTest -PloadTest.updateBaseline=true -PloadTest.machine="$MACHINE"
+
+# 같은 장비에서 한 번 더 돌려서 방금 기록한 기준값으로 게이트가 통과하는지 확인 (흔들림이 tolerance 안인지)
+echo "== checking the new baseline"
+./gradlew loadTest
+
+git --no-pager diff --stat perf/loadtest-baseline.json
+echo "Commit perf/loadtest-baseline.json if the numbers look sane."
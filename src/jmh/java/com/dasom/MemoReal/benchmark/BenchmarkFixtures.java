@@ -0,0 +1,59 @@
+package com.dasom.MemoReal.benchmark;
+
+import com.dasom.MemoReal.global.jwt.store.RefreshTokenStore;
+import com.dasom.MemoReal.global.security.principal.AuthUser;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+final class BenchmarkFixtures {
+
+    // HS256 에 필요한 256bit 이상 길이의 Base64 secret (벤치마크 전용)
+    static final String JWT_SECRET = "bWVtb3JlYWwtYmVuY2htYXJrLXNlY3JldC1rZXktZm9yLWhzMjU2LXNpZ25pbmc=";
+
+    // 토큰 발급에 쓰는 사용자 (uid / email 클레임 포함)
+    static final AuthUser AUTH_USER = new AuthUser(1L, "benchmark@memoreal.com", "benchmark-user");
+
+    private BenchmarkFixtures() {
+    }
+
+    // 토큰 발급을 수백만 번 반복해도 상태가 쌓이지 않도록 아무것도 저장하지 않는 store
+    static RefreshTokenStore noopRefreshTokenStore() {
+        return new RefreshTokenStore() {
+            @Override
+            public void issue(long family, long jti, long expiresAt) {
+            }
+
+            @Override
+            public Rotation rotate(long family, long presentedJti, long newJti, long newExpiresAt) {
+                return Rotation.ROTATED;
+            }
+
+            @Override
+            public void revokeFamily(long family) {
+            }
+        };
+    }
+
+    // metrics=off: 하위 registry 가 없는 CompositeMeterRegistry 는 모든 meter 가 noop
+    // metrics=on: 운영 설정처럼 percentile histogram 까지 켠 registry
+    static MeterRegistry meterRegistry(boolean enabled) {
+        if (!enabled) {
+            return new CompositeMeterRegistry();
+        }
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        registry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .build()
+                        .merge(config);
+            }
+        });
+        return registry;
+    }
+}
@@ -0,0 +1,72 @@
+package com.dasom.MemoReal.benchmark;
+
+import com.dasom.MemoReal.global.jwt.cache.VerifiedTokenCache;
+import com.dasom.MemoReal.global.jwt.filter.JwtAuthenticationFilter;
+import com.dasom.MemoReal.global.jwt.provider.JwtTokenProvider;
+import com.dasom.MemoReal.global.jwt.revoke.TokenDenylist;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 모든 요청이 잘못된 토큰인 경우(토큰 폭주 공격)의 필터 처리량
+// kind=signature: 서명 위조, malformed: 형식이 깨진 토큰
+// 로그는 src/jmh/resources/logback.xml 설정으로 INFO 레벨 파일에 기록되므로 로그 비용까지 포함됨
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InvalidTokenBenchmark {
+
+    @Param({"signature", "malformed"})
+    public String kind;
+
+    private JwtAuthenticationFilter filter;
+    private String bearerHeader;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(BenchmarkFixtures.JWT_SECRET, 1800, 1209600,
+                new VerifiedTokenCache(10000, 300), BenchmarkFixtures.noopRefreshTokenStore(),
+                new TokenDenylist(1800, ""), BenchmarkFixtures.meterRegistry(false));
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, BenchmarkFixtures.meterRegistry(false));
+        String accessToken = jwtTokenProvider.generateToken(new UsernamePasswordAuthenticationToken(
+                BenchmarkFixtures.AUTH_USER, "", List.of(new SimpleGrantedAuthority("USER")))).getAccessToken();
+        String token = switch (kind) {
+            // 마지막 서명 문자 하나만 바꿔서 서명 검증에서 실패하도록 함
+            case "signature" -> accessToken.substring(0, accessToken.length() - 2)
+                    + (accessToken.charAt(accessToken.length() - 2) == 'A' ? 'B' : 'A')
+                    + accessToken.charAt(accessToken.length() - 1);
+            default -> "not.a.jwt";
+        };
+        bearerHeader = "Bearer " + token;
+    }
+
+    @State(Scope.Thread)
+    public static class RequestState {
+        MockHttpServletRequest request;
+        MockHttpServletResponse response;
+        FilterChain chain;
+
+        @Setup
+        public void setUp(InvalidTokenBenchmark benchmark) {
+            request = new MockHttpServletRequest("POST", "/api/users/test");
+            request.addHeader("Authorization", benchmark.bearerHeader);
+            response = new MockHttpServletResponse();
+            chain = (req, res) -> { };
+        }
+    }
+
+    @Benchmark
+    public Object doFilter(RequestState state) throws Exception {
+        filter.doFilter(state.request, state.response, state.chain);
+        return state.response;
+    }
+}
@@ -0,0 +1,54 @@
+package com.dasom.MemoReal.benchmark;
+
+import com.dasom.MemoReal.global.jwt.cache.VerifiedTokenCache;
+import com.dasom.MemoReal.global.jwt.provider.JwtTokenProvider;
+import com.dasom.MemoReal.global.jwt.revoke.TokenDenylist;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// JwtTokenProvider 의 토큰 발급/검증/Authentication 생성 비용 측정 (검증 캐시는 끔)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    @Param({"false"})
+    public boolean metrics;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private Authentication authentication;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(BenchmarkFixtures.JWT_SECRET, 1800, 1209600,
+                new VerifiedTokenCache(0, 0), BenchmarkFixtures.noopRefreshTokenStore(),
+                new TokenDenylist(1800, ""), BenchmarkFixtures.meterRegistry(metrics));
+        authentication = new UsernamePasswordAuthenticationToken(
+                BenchmarkFixtures.AUTH_USER, "", List.of(new SimpleGrantedAuthority("USER")));
+        accessToken = jwtTokenProvider.generateToken(authentication).getAccessToken();
+    }
+
+    @Benchmark
+    public Object generateToken() {
+        return jwtTokenProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return jwtTokenProvider.getAuthentication(accessToken);
+    }
+}
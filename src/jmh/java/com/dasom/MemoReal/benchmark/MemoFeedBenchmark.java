@@ -0,0 +1,133 @@
+package com.dasom.MemoReal.benchmark;
+
+import com.dasom.MemoReal.MemoRealApplication;
+import com.dasom.MemoReal.domain.memo.dto.MemoSummaryDTO;
+import com.dasom.MemoReal.domain.memo.repository.MemoRepository;
+import com.dasom.MemoReal.global.id.TsidFactory;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 메모 10만 개 이상인 사용자의 최신순 목록에서 N 번째 페이지를 읽는 시간
+// keyset: 커서 위치부터 인덱스로 바로 찾으므로 페이지 번호와 관계없이 일정해야 함
+// offset: 비교용. OFFSET 만큼 건너뛰며 읽으므로 뒤 페이지일수록 느려짐
+// 메모리 H2 + 실제 스키마(Flyway)로 앱을 띄워서 MemoRepository 쿼리를 그대로 실행
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MemoFeedBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int MAX_PAGE = 10_000;
+    private static final int MEMOS = PAGE_SIZE * MAX_PAGE + PAGE_SIZE;
+    private static final int INSERT_BATCH = 5_000;
+
+    @Param({"1", "10", "100", "1000", "10000"})
+    public int page;
+
+    private ConfigurableApplicationContext context;
+    private MemoRepository memoRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnly;
+    private long ownerId;
+    private LocalDateTime cursorCreatedAt;
+    private long cursorId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(MemoRealApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:memo-benchmark;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "spring.jwt.secret=" + BenchmarkFixtures.JWT_SECRET,
+                        "spring.jwt.revocation.journal-path=",
+                        "memoreal.rate-limit.enabled=false",
+                        "memoreal.access-log.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+        memoRepository = context.getBean(MemoRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        seed(context.getBean(JdbcTemplate.class));
+    }
+
+    // 사용자 한 명에 메모 MEMOS 개 (1ms 간격), 다른 사용자의 메모도 같은 수만큼 섞어 넣음
+    private void seed(JdbcTemplate jdbcTemplate) {
+        ownerId = TsidFactory.next();
+        long otherId = TsidFactory.next();
+        for (long userId : new long[]{ownerId, otherId}) {
+            jdbcTemplate.update("INSERT INTO user (id, username, password, email, role_mask) VALUES (?, ?, ?, ?, 1)",
+                    userId, "bench-" + userId, "encoded", "bench-" + userId + "@memoreal.com");
+        }
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+        for (int i = 0; i < MEMOS; i++) {
+            Timestamp createdAt = Timestamp.valueOf(base.plusNanos(i * 1_000_000L));
+            batch.add(new Object[]{TsidFactory.next(), ownerId, "memo " + i, "content " + i, createdAt, createdAt});
+            batch.add(new Object[]{TsidFactory.next(), otherId, "other " + i, "content " + i, createdAt, createdAt});
+            if (batch.size() >= INSERT_BATCH) {
+                insert(jdbcTemplate, batch);
+            }
+        }
+        insert(jdbcTemplate, batch);
+        jdbcTemplate.execute("ANALYZE");
+
+        // page 번째 페이지의 커서 = 이전 페이지 마지막 행
+        if (page > 1) {
+            Map<String, Object> last = jdbcTemplate.queryForMap(
+                    "SELECT created_at, id FROM memo WHERE owner_id = ? ORDER BY created_at DESC, id DESC LIMIT 1 OFFSET ?",
+                    ownerId, (page - 1) * PAGE_SIZE - 1);
+            cursorCreatedAt = ((Timestamp) last.get("CREATED_AT")).toLocalDateTime();
+            cursorId = ((Number) last.get("ID")).longValue();
+        }
+    }
+
+    private static void insert(JdbcTemplate jdbcTemplate, List<Object[]> batch) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO memo (id, owner_id, title, content, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)", batch);
+        batch.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<MemoSummaryDTO> keyset() {
+        Limit limit = Limit.of(PAGE_SIZE + 1);
+        return readOnly.execute(status -> page == 1
+                ? memoRepository.findLatest(ownerId, limit)
+                : memoRepository.findLatestBefore(ownerId, cursorCreatedAt, cursorId, limit));
+    }
+
+    @Benchmark
+    public List<MemoSummaryDTO> offset() {
+        return readOnly.execute(status -> entityManager.createQuery(
+                        "select new com.dasom.MemoReal.domain.memo.dto.MemoSummaryDTO(m.id, m.title, m.createdAt) from Memo m " +
+                                "where m.owner.id = :ownerId order by m.createdAt desc, m.id desc", MemoSummaryDTO.class)
+                .setParameter("ownerId", ownerId)
+                .setFirstResult((page - 1) * PAGE_SIZE)
+                .setMaxResults(PAGE_SIZE + 1)
+                .getResultList());
+    }
+}
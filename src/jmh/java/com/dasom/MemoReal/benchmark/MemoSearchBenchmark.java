@@ -0,0 +1,79 @@
+package com.dasom.MemoReal.benchmark;
+
+import com.dasom.MemoReal.domain.search.index.SearchHit;
+import com.dasom.MemoReal.domain.search.index.Segment;
+import com.dasom.MemoReal.domain.search.index.UserIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// 메모 10만 개인 사용자의 검색 시간 (목표: 10ms 미만)
+// 한국어 단어를 섞은 메모로 색인을 만들어 세그먼트 파일로 저장한 뒤, 재시작한 것처럼 mmap 으로 다시 열어서 검색
+// openSegment: 재시작 후 색인을 올리는 시간 (세그먼트 매핑 + memo id 맵 구성)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MemoSearchBenchmark {
+
+    private static final int MEMOS = 100_000;
+    private static final int WORDS_PER_MEMO = 40;
+    private static final double MIN_SHOULD_MATCH = 0.6;
+    private static final String[] WORDS = {
+            "회의", "회의록", "배포", "일정", "정리", "프로젝트", "검색", "테스트", "장보기", "우유", "계란", "운동",
+            "여행", "준비물", "독서", "메모", "아이디어", "서버", "데이터베이스", "인덱스", "성능", "개선", "버그", "수정",
+            "다음", "주", "월요일", "금요일", "마감", "보고서", "작성", "확인", "공유", "디자인", "리뷰", "배포전",
+            "고객", "요청", "문의", "답변", "점심", "저녁", "약속", "병원", "예약", "청소", "빨래", "공부", "영어", "단어"
+    };
+
+    @Param({"회의록", "배포 일정 정리", "데이터베이스 인덱스 성능 개선"})
+    public String query;
+
+    private Path directory;
+    private Path segmentPath;
+    private UserIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("memo-search-benchmark");
+        segmentPath = directory.resolve("1.seg");
+        UserIndex building = new UserIndex(null);
+        SplittableRandom random = new SplittableRandom(42);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < MEMOS; i++) {
+            text.setLength(0);
+            for (int w = 0; w < WORDS_PER_MEMO; w++) {
+                text.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+            }
+            building.put(i + 1, text.toString(), i);
+        }
+        building.writeTo(segmentPath);
+        index = new UserIndex(Segment.open(segmentPath));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public List<SearchHit> search() {
+        return index.search(query, 20, MIN_SHOULD_MATCH);
+    }
+
+    @Benchmark
+    public UserIndex openSegment() throws IOException {
+        return new UserIndex(Segment.open(segmentPath));
+    }
+}
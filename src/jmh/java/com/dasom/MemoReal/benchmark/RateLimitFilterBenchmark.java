@@ -0,0 +1,84 @@
+package com.dasom.MemoReal.benchmark;
+
+import com.dasom.MemoReal.global.exception.ErrorResponses;
+import com.dasom.MemoReal.global.ratelimit.RateLimitFilter;
+import com.dasom.MemoReal.global.ratelimit.RateLimitProperties;
+import com.dasom.MemoReal.global.ratelimit.RateLimitProperties.KeyType;
+import com.dasom.MemoReal.global.ratelimit.RateLimitProperties.Rule;
+import com.dasom.MemoReal.global.ratelimit.RateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 요청 한 건이 RateLimitFilter 를 통과하는 비용 측정
+// path=/api/users/test 는 규칙이 없는 경로(HashMap 조회만), /api/users/join 은 IP 버킷 하나,
+// /api/users/login 은 IP + 이메일 버킷 (본문 버퍼링 + 이메일 파싱 포함)
+// 버킷이 비지 않도록 충전 속도를 크게 잡아서 항상 허용되는 경로를 잼
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RateLimitFilterBenchmark {
+
+    private static final int CLIENTS = 10_000;
+
+    @Param({"/api/users/test", "/api/users/join", "/api/users/login"})
+    public String path;
+
+    private RateLimitFilter filter;
+
+    @Setup
+    public void setUp() {
+        List<Rule> rules = List.of(
+                new Rule("login-ip", "POST", "/api/users/login", KeyType.IP, 1000, 1_000_000),
+                new Rule("login-email", "POST", "/api/users/login", KeyType.EMAIL, 1000, 1_000_000),
+                new Rule("join-ip", "POST", "/api/users/join", KeyType.IP, 1000, 1_000_000));
+        RateLimiter rateLimiter = new RateLimiter(new RateLimitProperties(true, 50_000, 64, 16384, rules));
+        filter = new RateLimitFilter(rateLimiter, new ErrorResponses(new ObjectMapper()));
+    }
+
+    // 스레드마다 서로 다른 클라이언트(IP, 이메일)를 돌아가며 사용
+    @State(Scope.Thread)
+    public static class RequestState {
+        MockHttpServletRequest[] requests;
+        byte[][] bodies;
+        MockHttpServletResponse response;
+        FilterChain chain;
+        int next;
+
+        @Setup
+        public void setUp(RateLimitFilterBenchmark benchmark) {
+            requests = new MockHttpServletRequest[CLIENTS];
+            bodies = new byte[CLIENTS][];
+            for (int i = 0; i < CLIENTS; i++) {
+                MockHttpServletRequest request = new MockHttpServletRequest("POST", benchmark.path);
+                request.setRemoteAddr("10.0." + (i >> 8) + "." + (i & 0xff));
+                request.setContentType("application/json");
+                bodies[i] = ("{\"email\":\"user" + i + "@example.com\",\"password\":\"password\"}")
+                        .getBytes(StandardCharsets.UTF_8);
+                requests[i] = request;
+            }
+            response = new MockHttpServletResponse();
+            chain = (req, res) -> { };
+        }
+    }
+
+    @Benchmark
+    public int doFilter(RequestState state) throws Exception {
+        int i = state.next;
+        state.next = i + 1 == CLIENTS ? 0 : i + 1;
+        MockHttpServletRequest request = state.requests[i];
+        // MockHttpServletRequest 의 본문 스트림은 한 번만 읽히므로 매번 다시 설정 (참조만 바꿈)
+        request.setContent(state.bodies[i]);
+        filter.doFilter(request, state.response, state.chain);
+        return state.response.getStatus();
+    }
+}
@@ -0,0 +1,33 @@
+package com.dasom.MemoReal.benchmark;
+
+import com.dasom.MemoReal.domain.user.entity.Role;
+import com.dasom.MemoReal.domain.user.entity.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// User.getAuthorities() 호출 비용 및 호출당 할당량 측정
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserAuthoritiesBenchmark {
+
+    private User user;
+
+    @Setup
+    public void setUp() {
+        user = User.builder()
+                .username("benchmark-user")
+                .email("benchmark@memoreal.com")
+                .roleMask(Role.USER.getBit())
+                .build();
+    }
+
+    @Benchmark
+    public Object getAuthorities() {
+        return user.getAuthorities();
+    }
+}
@@ -0,0 +1,84 @@
+package com.dasom.MemoReal.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// perf/loadtest-baseline.json: 시나리오별 기준 처리량 / p99
+// 측정값이 tolerance 비율 이상 나빠지거나 에러율이 maxErrorRate 를 넘으면 회귀로 판단
+// measuredOn 은 기준값을 잰 장비. 비어 있으면 아직 측정하지 않은 임시 값이라 비교하지 않음
+record Baseline(double tolerance, double maxErrorRate, Machine measuredOn, Map<String, Expected> scenarios) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    record Expected(double throughput, double p99Millis) {
+    }
+
+    // 다른 장비에서 잰 값과 비교하면 의미가 없으므로 기준값과 함께 기록
+    record Machine(String description, int cores, long maxHeapMb, String java, String os, String measuredAt) {
+
+        static Machine current(String description) {
+            Runtime runtime = Runtime.getRuntime();
+            return new Machine(description, runtime.availableProcessors(), runtime.maxMemory() / (1024 * 1024),
+                    System.getProperty("java.vm.name") + " " + System.getProperty("java.version"),
+                    System.getProperty("os.name") + " " + System.getProperty("os.arch"),
+                    LocalDate.now().toString());
+        }
+    }
+
+    boolean isMeasured() {
+        return measuredOn != null;
+    }
+
+    static Baseline read(Path path) throws IOException {
+        return MAPPER.readValue(path.toFile(), Baseline.class);
+    }
+
+    void write(Path path) throws IOException {
+        MAPPER.writeValue(path.toFile(), this);
+    }
+
+    static void writeResults(Path path, Map<String, ScenarioResult> results) throws IOException {
+        Map<String, Object> json = new LinkedHashMap<>();
+        results.forEach((name, result) -> json.put(name, result.toMap()));
+        MAPPER.writeValue(path.toFile(), json);
+    }
+
+    List<String> check(Map<String, ScenarioResult> results) {
+        List<String> regressions = new ArrayList<>();
+        scenarios.forEach((name, expected) -> {
+            ScenarioResult result = results.get(name);
+            if (result == null) {
+                regressions.add(name + ": no result");
+                return;
+            }
+            double p99 = result.percentileMillis(99);
+            if (p99 > expected.p99Millis() * (1 + tolerance)) {
+                regressions.add(String.format("%s: p99 %.2f ms > baseline %.2f ms (+%.0f%%)",
+                        name, p99, expected.p99Millis(), tolerance * 100));
+            }
+            if (result.throughput() < expected.throughput() * (1 - tolerance)) {
+                regressions.add(String.format("%s: throughput %.1f req/s < baseline %.1f req/s (-%.0f%%)",
+                        name, result.throughput(), expected.throughput(), tolerance * 100));
+            }
+            if (result.errorRate() > maxErrorRate) {
+                regressions.add(String.format("%s: error rate %.2f%% > %.2f%%",
+                        name, result.errorRate() * 100, maxErrorRate * 100));
+            }
+        });
+        return regressions;
+    }
+
+    Baseline updatedWith(Map<String, ScenarioResult> results, Machine machine) {
+        Map<String, Expected> updated = new LinkedHashMap<>();
+        results.forEach((name, result) -> updated.put(name, new Expected(result.throughput(), result.percentileMillis(99))));
+        return new Baseline(tolerance, maxErrorRate, machine, updated);
+    }
+}
@@ -0,0 +1,186 @@
+package com.dasom.MemoReal.loadtest;
+
+import com.dasom.MemoReal.MemoRealApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+// ./gradlew loadTest 진입점
+// loadtest 프로필(메모리 H2)로 앱을 띄우고 -> 로그인용 사용자 준비 -> 워밍업 -> 측정 -> 기준값과 비교
+// 기준보다 나빠지면 exit code 1, 기준값이 아직 측정되지 않았으면 exit code 2 로 끝나서 Gradle 작업이 실패함
+// 인자: <baseline.json> <result.json>, 시스템 프로퍼티: loadtest.duration / loadtest.warmup (초), loadtest.updateBaseline,
+// loadtest.machine (기준값을 갱신할 때 함께 기록할 장비 설명. 예: "c6i.xlarge, 4 vCPU")
+public class LoadTestRunner {
+
+    private static final int USERS = 20;
+    private static final String PASSWORD = "loadtest-password";
+    private static final int MAX_IN_FLIGHT = 1000;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(REQUEST_TIMEOUT)
+            .build();
+    private final String baseUrl;
+    // 실행마다 다른 이메일로 가입하도록 (같은 JVM 에서 워밍업/측정을 거쳐도 중복 없음)
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    LoadTestRunner(int port) {
+        this.baseUrl = "http://localhost:" + port;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path baselinePath = Path.of(args[0]);
+        Path resultPath = Path.of(args[1]);
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.duration", 30));
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup", 10));
+        boolean updateBaseline = Boolean.getBoolean("loadtest.updateBaseline");
+        String machine = System.getProperty("loadtest.machine");
+        if (updateBaseline && (machine == null || machine.isBlank())) {
+            System.out.println("-PloadTest.machine=<reference machine> is required with -PloadTest.updateBaseline=true");
+            System.exit(2);
+        }
+
+        int exitCode;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MemoRealApplication.class)
+                .profiles("loadtest")
+                .properties("server.port=0")
+                .run()) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            exitCode = new LoadTestRunner(port).run(baselinePath, resultPath, duration, warmup,
+                    updateBaseline ? machine : null);
+        }
+        System.exit(exitCode);
+    }
+
+    // updateMachine 이 있으면 결과로 기준값을 다시 씀
+    int run(Path baselinePath, Path resultPath, Duration duration, Duration warmup, String updateMachine) throws Exception {
+        List<String> emails = new ArrayList<>();
+        List<String> accessTokens = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            String email = "seed-" + runId + "-" + i + "@memoreal.com";
+            expect(client.send(join(email, "seed-" + runId + "-" + i), HttpResponse.BodyHandlers.discarding()), "join");
+            HttpResponse<String> login = expect(client.send(login(email), HttpResponse.BodyHandlers.ofString()), "login");
+            emails.add(email);
+            accessTokens.add(objectMapper.readTree(login.body()).path("accessToken").asText());
+        }
+
+        List<Scenario> scenarios = scenarios(emails, accessTokens);
+        OpenWorkload workload = new OpenWorkload(client, MAX_IN_FLIGHT);
+        System.out.printf("Warming up for %ds%n", warmup.toSeconds());
+        workload.run(scenarios, warmup);
+        System.out.printf("Measuring for %ds%n", duration.toSeconds());
+        Map<String, ScenarioResult> results = workload.run(scenarios, duration);
+
+        results.forEach((name, result) -> System.out.println(result.summary(name)));
+        Baseline.writeResults(resultPath, results);
+
+        Baseline baseline = Baseline.read(baselinePath);
+        if (updateMachine != null) {
+            baseline.updatedWith(results, Baseline.Machine.current(updateMachine)).write(baselinePath);
+            System.out.println("Baseline updated: " + baselinePath);
+            return 0;
+        }
+        // 임시 값과 비교해서 통과 / 실패를 내면 게이트가 있는 것처럼 보이기만 하므로 측정부터 하게 함
+        if (!baseline.isMeasured()) {
+            System.out.println(baselinePath + " has not been measured yet. Run on the reference machine: "
+                    + "perf/update-loadtest-baseline.sh");
+            return 2;
+        }
+        System.out.println("Baseline measured on " + baseline.measuredOn());
+        List<String> regressions = baseline.check(results);
+        if (regressions.isEmpty()) {
+            System.out.println("No regressions against " + baselinePath);
+            return 0;
+        }
+        System.out.println("Regressions against " + baselinePath + ":");
+        regressions.forEach(regression -> System.out.println("  " + regression));
+        return 1;
+    }
+
+    // 도착률을 바꾸면 perf/loadtest-baseline.json 도 다시 기록해야 함 (-PloadTest.updateBaseline=true)
+    private List<Scenario> scenarios(List<String> emails, List<String> accessTokens) {
+        AtomicLong signups = new AtomicLong();
+        AtomicLong logins = new AtomicLong();
+        AtomicLong tokenUses = new AtomicLong();
+        AtomicLong invalidUses = new AtomicLong();
+        List<String> invalidTokens = List.of(tamperSignature(accessTokens.get(0)), "not-a-jwt");
+        return List.of(
+                new Scenario("signup", 5, () -> {
+                    long n = signups.getAndIncrement();
+                    return join("load-" + runId + "-" + n + "@memoreal.com", "load-" + runId + "-" + n);
+                }, status -> status == 200),
+                new Scenario("login", 10,
+                        () -> login(emails.get((int) (logins.getAndIncrement() % emails.size()))),
+                        status -> status == 200),
+                new Scenario("token-reuse", 200,
+                        () -> authenticated(accessTokens.get((int) (tokenUses.getAndIncrement() % accessTokens.size()))),
+                        status -> status == 200),
+                // 잘못된 토큰은 인증되지 않으므로 @CurrentUser 에서 401
+                new Scenario("invalid-token", 50,
+                        () -> authenticated(invalidTokens.get((int) (invalidUses.getAndIncrement() % invalidTokens.size()))),
+                        status -> status == 401));
+    }
+
+    private HttpRequest join(String email, String username) {
+        return post("/api/users/join", json(Map.of("email", email, "username", username, "password", PASSWORD)));
+    }
+
+    private HttpRequest login(String email) {
+        return post("/api/users/login", json(Map.of("email", email, "password", PASSWORD)));
+    }
+
+    private HttpRequest authenticated(String accessToken) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/users/test"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + accessToken)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+    }
+
+    private HttpRequest post(String path, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private String json(Map<String, String> body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static <T> HttpResponse<T> expect(HttpResponse<T> response, String step) {
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(step + " failed with status " + response.statusCode());
+        }
+        return response;
+    }
+
+    // 서명 중간의 한 글자를 바꿔서 서명 검증에서 실패하는 토큰을 만듦
+    // (마지막 글자는 Base64 패딩 비트만 바뀔 수 있어서 피함)
+    private static String tamperSignature(String token) {
+        int i = token.length() - 10;
+        char replacement = token.charAt(i) == 'A' ? 'B' : 'A';
+        return token.substring(0, i) + replacement + token.substring(i + 1);
+    }
+}
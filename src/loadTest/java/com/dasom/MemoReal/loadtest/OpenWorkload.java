@@ -0,0 +1,86 @@
+package com.dasom.MemoReal.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+// open model 부하: 응답을 기다리지 않고 정해진 시각마다 요청을 보냄
+// 지연 시간은 "보냈어야 할 시각"부터 재므로 서버가 밀려서 늦게 보낸 시간까지 포함됨 (coordinated omission 보정)
+final class OpenWorkload {
+
+    private final HttpClient client;
+    private final int maxInFlight;
+
+    OpenWorkload(HttpClient client, int maxInFlight) {
+        this.client = client;
+        this.maxInFlight = maxInFlight;
+    }
+
+    Map<String, ScenarioResult> run(List<Scenario> scenarios, Duration duration) throws InterruptedException {
+        Map<String, ScenarioResult> results = new LinkedHashMap<>();
+        List<Thread> schedulers = new ArrayList<>();
+        AtomicInteger inFlight = new AtomicInteger();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Scenario scenario : scenarios) {
+                ScenarioResult result = new ScenarioResult(duration.toNanos() / 1e9);
+                results.put(scenario.name(), result);
+                // 도착 시각을 정확히 지키도록 시나리오마다 전용 플랫폼 스레드에서 스케줄링
+                schedulers.add(Thread.ofPlatform().name("loadtest-" + scenario.name())
+                        .start(() -> schedule(scenario, result, duration, executor, inFlight)));
+            }
+            for (Thread scheduler : schedulers) {
+                scheduler.join();
+            }
+        } // close() 가 남은 요청이 끝날 때까지 기다림
+        return results;
+    }
+
+    private void schedule(Scenario scenario, ScenarioResult result, Duration duration,
+                          ExecutorService executor, AtomicInteger inFlight) {
+        long interval = (long) (1_000_000_000L / scenario.ratePerSecond());
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        for (long i = 0; ; i++) {
+            long intendedAt = start + i * interval;
+            if (intendedAt >= end) {
+                return;
+            }
+            long wait;
+            while ((wait = intendedAt - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (inFlight.incrementAndGet() > maxInFlight) {
+                inFlight.decrementAndGet();
+                result.recordDropped();
+                continue;
+            }
+            executor.execute(() -> {
+                try {
+                    send(scenario, result, intendedAt);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    private void send(Scenario scenario, ScenarioResult result, long intendedAt) {
+        boolean success;
+        try {
+            HttpResponse<Void> response = client.send(scenario.requests().get(), HttpResponse.BodyHandlers.discarding());
+            success = scenario.expectedStatus().test(response.statusCode());
+        } catch (Exception e) {
+            // 타임아웃, 연결 실패 등은 에러로 집계
+            success = false;
+        }
+        result.record(System.nanoTime() - intendedAt, success);
+    }
+}
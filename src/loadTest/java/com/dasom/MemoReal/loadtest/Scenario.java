@@ -0,0 +1,10 @@
+package com.dasom.MemoReal.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+
+// 고정 도착률(초당 ratePerSecond 건)로 보낼 요청 종류
+// requests 는 매번 새 요청을 만들어 줌 (회원가입처럼 요청마다 값이 달라야 하는 경우)
+record Scenario(String name, double ratePerSecond, Supplier<HttpRequest> requests, IntPredicate expectedStatus) {
+}
@@ -0,0 +1,68 @@
+package com.dasom.MemoReal.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 시나리오 하나의 측정 결과. 지연 시간은 µs 단위로 기록 (최대 60초, 유효숫자 3자리)
+final class ScenarioResult {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final Histogram latency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    // 동시 요청 수 제한에 걸려서 보내지 못한 요청 (서버가 도착률을 못 따라간다는 뜻)
+    private final LongAdder dropped = new LongAdder();
+    private final double seconds;
+
+    ScenarioResult(double seconds) {
+        this.seconds = seconds;
+    }
+
+    void record(long latencyNanos, boolean success) {
+        latency.recordValue(Math.min(MAX_LATENCY_MICROS, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        (success ? ok : errors).increment();
+    }
+
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    // 성공한 요청 기준 처리량
+    double throughput() {
+        return ok.sum() / seconds;
+    }
+
+    double errorRate() {
+        long total = ok.sum() + errors.sum() + dropped.sum();
+        return total == 0 ? 0 : (errors.sum() + dropped.sum()) / (double) total;
+    }
+
+    double percentileMillis(double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("throughput", throughput());
+        map.put("p50Millis", percentileMillis(50));
+        map.put("p99Millis", percentileMillis(99));
+        map.put("p999Millis", percentileMillis(99.9));
+        map.put("maxMillis", latency.getMaxValue() / 1000.0);
+        map.put("ok", ok.sum());
+        map.put("errors", errors.sum());
+        map.put("dropped", dropped.sum());
+        return map;
+    }
+
+    String summary(String name) {
+        return String.format("%-14s %8.1f req/s  p50 %7.2f ms  p99 %7.2f ms  p999 %7.2f ms  errors %d  dropped %d",
+                name, throughput(), percentileMillis(50), percentileMillis(99), percentileMillis(99.9),
+                errors.sum(), dropped.sum());
+    }
+}
@@ -0,0 +1,68 @@
+package com.dasom.MemoReal.loadtest;
+
+import com.dasom.MemoReal.MemoRealApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// ./gradlew startupReport 에서 설정마다 새 JVM 으로 한 번씩 실행
+// loadtest 프로필로 앱을 띄워서 JVM 시작 ~ 준비 완료 시간, GC 후 사용 중인 힙, 로드된 클래스 수,
+// 첫 /v3/api-docs 응답 시간을 재서 JSON 으로 저장
+// 인자: <result.json> [spring 프로퍼티 key=value ...]
+public class StartupProbe {
+
+    public static void main(String[] args) throws Exception {
+        Path resultPath = Path.of(args[0]);
+        String[] properties = Arrays.copyOfRange(args, 1, args.length);
+        // 기본값(properties)이 아니라 명령행 인자로 줘서 yml 설정보다 우선하게 함
+        String[] commandLine = Arrays.stream(properties).map(property -> "--" + property).toArray(String[]::new);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MemoRealApplication.class)
+                .profiles("loadtest")
+                .properties("server.port=0")
+                .run(commandLine)) {
+            long readyMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+            result.put("properties", properties);
+            // 다른 장비에서 잰 결과와 섞이지 않도록 함께 기록
+            result.put("machine", Baseline.Machine.current(System.getProperty("startup.machine", "")));
+            result.put("startupMillis", readyMillis);
+            result.put("heapUsedBytes", heapUsedAfterGc());
+            result.put("loadedClasses", ManagementFactory.getClassLoadingMXBean().getLoadedClassCount());
+
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            HttpClient client = HttpClient.newHttpClient();
+            long start = System.nanoTime();
+            HttpResponse<byte[]> response = client.send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/v3/api-docs")).GET().build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            result.put("firstApiDocsMillis", (System.nanoTime() - start) / 1_000_000.0);
+            result.put("apiDocsStatus", response.statusCode());
+            // 첫 요청에서 만들어진 문서 모델까지 포함한 힙
+            result.put("heapUsedAfterApiDocsBytes", heapUsedAfterGc());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(resultPath.toFile(), result);
+        System.out.println(result);
+        System.exit(0);
+    }
+
+    private static long heapUsedAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
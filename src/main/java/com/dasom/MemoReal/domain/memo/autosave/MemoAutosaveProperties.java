@@ -0,0 +1,20 @@
+package com.dasom.MemoReal.domain.memo.autosave;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// memoreal.autosave.* : 메모 자동 저장 write-behind 버퍼
+@ConfigurationProperties("memoreal.autosave")
+public record MemoAutosaveProperties(
+        // 이 주기마다 쌓인 변경을 DB 에 씀 (변경이 DB 에 반영되기까지 최대 지연)
+        @DefaultValue("1000") long flushIntervalMillis,
+        // batch update 한 번에 담는 행 수. 대기 중인 메모가 이만큼 쌓이면 주기를 기다리지 않고 바로 씀
+        @DefaultValue("200") int batchSize,
+        // 버퍼에 담을 수 있는 메모 수 / 제목+본문 크기 합계(대략적인 바이트). 넘으면 새 메모는 기다리거나 거절
+        @DefaultValue("10000") int maxPending,
+        @DefaultValue("67108864") long maxPendingBytes,
+        // 버퍼가 가득 찼을 때 자리가 날 때까지 기다리는 최대 시간. 넘으면 429
+        @DefaultValue("200") long blockTimeoutMillis,
+        @DefaultValue("1") long retryAfterSeconds
+) {
+}
@@ -0,0 +1,352 @@
+package com.dasom.MemoReal.domain.memo.autosave;
+
+import com.dasom.MemoReal.domain.memo.event.MemoChangedEvent;
+import com.dasom.MemoReal.global.datasource.ReadYourWrites;
+import com.dasom.MemoReal.global.exception.ErrorCode;
+import com.dasom.MemoReal.global.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 메모 자동 저장용 write-behind 버퍼
+// 편집 중 몇 초마다 오는 저장 요청은 메모리(메모 ID 별 최신 변경 하나)에만 담고 바로 응답.
+// flusher 스레드가 flush-interval-millis 마다 (또는 batch-size 만큼 쌓이면 바로) JDBC batch update 로 씀
+// 같은 메모의 연속 저장은 마지막 것 하나만 DB 에 쓰이므로 DB 쓰기 수 / 저장 요청 수 (write amplification) 가 1 보다 작아짐
+// 버퍼는 메모 수와 크기 합계로 제한하고, 가득 차면 자리가 날 때까지 잠깐 기다린 뒤 429 로 거절 (backpressure)
+// 쓰기가 끝날 때까지 변경은 버퍼에 남아 있어서 조회(find)는 항상 최신 변경을 봄
+// flusher 스레드에는 인증 정보가 없으므로 커밋 후 소유자별로 ReadYourWrites 에 직접 기록해서,
+// 버퍼에서 빠진 뒤의 조회도 (replica 가 아직 못 따라왔을 수 있으므로) 잠시 primary 에서 읽게 함
+@Slf4j
+@Component
+@EnableConfigurationProperties(MemoAutosaveProperties.class)
+public class MemoWriteBehind implements SmartLifecycle {
+
+    // JDBC 로 바로 쓰므로 영속성 컨텍스트를 거치지 않음 (Memo 는 2차 캐시 대상도 아님)
+    // updated_at 조건: 그 사이 일반 수정(PUT)이 먼저 반영됐으면 더 오래된 자동 저장으로 덮어쓰지 않음
+    private static final String UPDATE_SQL = "UPDATE memo SET title = ?, content = ?, updated_at = ? " +
+            "WHERE id = ? AND owner_id = ? AND updated_at <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReadYourWrites readYourWrites;
+    private final long flushIntervalNanos;
+    private final int batchSize;
+    private final int maxPending;
+    private final long maxPendingBytes;
+    private final long blockNanos;
+    private final long retryAfterSeconds;
+
+    private final ConcurrentHashMap<Long, PendingMemoEdit> pending = new ConcurrentHashMap<>();
+    private final AtomicLong pendingBytes = new AtomicLong();
+    // flush 는 한 번에 하나만 (flusher 스레드, 종료 시 stop)
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // 버퍼가 가득 차서 기다리는 요청 스레드를 쓰기가 끝날 때마다 깨움 (가상 스레드가 고정되지 않도록 synchronized 대신 Condition)
+    private final ReentrantLock spaceLock = new ReentrantLock();
+    private final Condition spaceFreed = spaceLock.newCondition();
+
+    private final LongAdder received = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final Timer flushTimer;
+    private final Timer lagTimer;
+
+    private volatile boolean running;
+    private volatile Thread flusher;
+
+    public MemoWriteBehind(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                           ApplicationEventPublisher eventPublisher, ReadYourWrites readYourWrites,
+                           MemoAutosaveProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.readYourWrites = readYourWrites;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(properties.flushIntervalMillis());
+        this.batchSize = Math.max(1, properties.batchSize());
+        this.maxPending = Math.max(1, properties.maxPending());
+        this.maxPendingBytes = properties.maxPendingBytes();
+        this.blockNanos = TimeUnit.MILLISECONDS.toNanos(properties.blockTimeoutMillis());
+        this.retryAfterSeconds = properties.retryAfterSeconds();
+
+        FunctionCounter.builder("memo.autosave.edits", received, LongAdder::sum)
+                .description("Autosave requests accepted into the write-behind buffer")
+                .register(meterRegistry);
+        FunctionCounter.builder("memo.autosave.coalesced", coalesced, LongAdder::sum)
+                .description("Autosave requests that replaced a pending edit of the same memo")
+                .register(meterRegistry);
+        FunctionCounter.builder("memo.autosave.rejected", rejected, LongAdder::sum)
+                .description("Autosave requests rejected because the buffer stayed full")
+                .register(meterRegistry);
+        FunctionCounter.builder("memo.autosave.rows", written, LongAdder::sum)
+                .tag("result", "written")
+                .register(meterRegistry);
+        FunctionCounter.builder("memo.autosave.rows", skipped, LongAdder::sum)
+                .tag("result", "skipped")
+                .description("Rows not updated because the memo was deleted or changed by a newer save")
+                .register(meterRegistry);
+        FunctionCounter.builder("memo.autosave.flush.failures", failed, LongAdder::sum)
+                .register(meterRegistry);
+        // 시작 이후 누적 DB 쓰기 수 / 저장 요청 수. 구간 값은 rate(rows) / rate(edits) 로 계산
+        Gauge.builder("memo.autosave.write.amplification", this, MemoWriteBehind::writeAmplification)
+                .register(meterRegistry);
+        Gauge.builder("memo.autosave.pending", pending, ConcurrentHashMap::size)
+                .register(meterRegistry);
+        Gauge.builder("memo.autosave.pending.bytes", pendingBytes, AtomicLong::get)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("memo.autosave.flush")
+                .description("Time to write one batch")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("memo.autosave.lag")
+                .description("Time from the first buffered edit of a memo until it is committed")
+                .register(meterRegistry);
+    }
+
+    // 아직 DB 에 쓰지 않은 변경. 없으면 null
+    public PendingMemoEdit find(long memoId) {
+        return pending.get(memoId);
+    }
+
+    // 변경을 버퍼에 넣음. 같은 메모가 이미 있으면 덮어쓰고 (자리를 더 차지하지 않으므로 가득 차도 허용)
+    // 새 메모인데 자리가 없으면 flusher 를 깨우고 block-timeout-millis 까지 기다린 뒤 429
+    public void submit(PendingMemoEdit edit) {
+        long deadline = 0;
+        while (true) {
+            PendingMemoEdit previous = pending.get(edit.memoId());
+            if (previous != null) {
+                PendingMemoEdit replacement = edit.replacing(previous);
+                if (pending.replace(edit.memoId(), previous, replacement)) {
+                    pendingBytes.addAndGet(replacement.bytes() - previous.bytes());
+                    received.increment();
+                    coalesced.increment();
+                    return;
+                }
+                continue;
+            }
+            if (hasRoomFor(edit)) {
+                if (pending.putIfAbsent(edit.memoId(), edit) == null) {
+                    pendingBytes.addAndGet(edit.bytes());
+                    received.increment();
+                    if (pending.size() >= batchSize) {
+                        wakeFlusher();
+                    }
+                    return;
+                }
+                continue;
+            }
+            if (deadline == 0) {
+                deadline = System.nanoTime() + blockNanos;
+            }
+            wakeFlusher();
+            if (!awaitSpace(deadline)) {
+                rejected.increment();
+                throw new TooManyRequestsException(ErrorCode.MEMO_AUTOSAVE_BUSY, retryAfterSeconds);
+            }
+        }
+    }
+
+    // 일반 수정 / 삭제가 반영될 때 호출. 버퍼에 남은 자동 저장이 나중에 덮어쓰지 않도록 버림
+    public void discard(long memoId) {
+        PendingMemoEdit removed = pending.remove(memoId);
+        if (removed != null) {
+            pendingBytes.addAndGet(-removed.bytes());
+            signalSpace();
+        }
+    }
+
+    // 지금 버퍼에 있는 변경을 모두 씀. 쓰기에 실패하면 남은 변경은 그대로 두고 다음 주기에 다시 시도
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<PendingMemoEdit> batch = new ArrayList<>(batchSize);
+            for (PendingMemoEdit edit : pending.values()) {
+                batch.add(edit);
+                if (batch.size() == batchSize) {
+                    if (!write(batch)) {
+                        return;
+                    }
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    public double writeAmplification() {
+        long edits = received.sum();
+        return edits == 0 ? 0 : (double) (written.sum() + skipped.sum()) / edits;
+    }
+
+    private boolean write(List<PendingMemoEdit> batch) {
+        long start = System.nanoTime();
+        int[] rows;
+        try {
+            // 검색 색인 등은 커밋된 뒤에 이벤트를 받음 (@TransactionalEventListener)
+            rows = transactionTemplate.execute(status -> {
+                int[] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, batch, batch.size(), (ps, edit) -> {
+                    ps.setString(1, edit.title());
+                    ps.setString(2, edit.content());
+                    ps.setObject(3, edit.updatedAt());
+                    ps.setLong(4, edit.memoId());
+                    ps.setLong(5, edit.ownerId());
+                    ps.setObject(6, edit.updatedAt());
+                })[0];
+                for (int i = 0; i < counts.length; i++) {
+                    // rewriteBatchedStatements 등으로 행 수를 모르면(SUCCESS_NO_INFO) 반영된 것으로 봄
+                    if (counts[i] != 0) {
+                        PendingMemoEdit edit = batch.get(i);
+                        eventPublisher.publishEvent(MemoChangedEvent.saved(edit.ownerId(), edit.memoId(),
+                                edit.title(), edit.content(), edit.updatedAt()));
+                    }
+                }
+                return counts;
+            });
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.warn("Failed to write {} autosaved memos, will retry", batch.size(), e);
+            return false;
+        }
+        long end = System.nanoTime();
+        flushTimer.record(end - start, TimeUnit.NANOSECONDS);
+        for (int i = 0; i < batch.size(); i++) {
+            PendingMemoEdit edit = batch.get(i);
+            if (rows[i] != 0) {
+                written.increment();
+                // 버퍼에서 빼기 전에 기록해서 버퍼에도 없고 replica 에서 읽는 틈이 없게 함
+                readYourWrites.recordWrite(edit.ownerEmail());
+            } else {
+                skipped.increment();
+            }
+            // 쓰는 동안 새 변경이 들어왔으면 남겨 두고 다음에 씀
+            if (pending.remove(edit.memoId(), edit)) {
+                pendingBytes.addAndGet(-edit.bytes());
+                lagTimer.record(end - edit.queuedNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        signalSpace();
+        return true;
+    }
+
+    // 동시에 넣는 경우 잠깐 넘칠 수 있음 (대략적인 상한)
+    private boolean hasRoomFor(PendingMemoEdit edit) {
+        return pending.size() < maxPending && pendingBytes.get() + edit.bytes() <= maxPendingBytes;
+    }
+
+    // 시간이 남았으면 자리가 날 때까지(또는 deadline 까지) 기다리고 true
+    private boolean awaitSpace(long deadline) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            return false;
+        }
+        spaceLock.lock();
+        try {
+            spaceFreed.awaitNanos(remaining);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            spaceLock.unlock();
+        }
+    }
+
+    private void signalSpace() {
+        spaceLock.lock();
+        try {
+            spaceFreed.signalAll();
+        } finally {
+            spaceLock.unlock();
+        }
+    }
+
+    private void wakeFlusher() {
+        Thread thread = flusher;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void runFlusher() {
+        while (running) {
+            // 주기가 되거나 batch-size 만큼 쌓여서 깨우면 씀
+            LockSupport.parkNanos(this, flushIntervalNanos);
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                log.error("Autosave flusher failed", e);
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        flusher = Thread.ofPlatform().name("memo-write-behind").daemon().start(this::runFlusher);
+    }
+
+    // 종료 시 남은 변경을 모두 쓰고 멈춤
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        Thread thread = flusher;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flusher = null;
+        flush();
+        if (!pending.isEmpty()) {
+            log.error("{} autosaved memos could not be written before shutdown", pending.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 웹 서버(DEFAULT_PHASE - 2048)가 요청을 다 처리하고 멈춘 뒤에 멈춰서 마지막 자동 저장까지 씀
+    // DataSource 등은 모든 lifecycle 이 멈춘 뒤에 닫히므로 이때는 아직 쓸 수 있음
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
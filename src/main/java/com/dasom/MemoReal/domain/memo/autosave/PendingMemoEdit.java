@@ -0,0 +1,28 @@
+package com.dasom.MemoReal.domain.memo.autosave;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+// 아직 DB 에 쓰지 않은 메모 변경 하나. queuedNanos 는 이 메모의 변경이 처음 버퍼에 들어온 시각 (합쳐져도 유지)
+// ownerEmail 은 쓴 뒤 그 사용자의 읽기를 primary 로 보내기 위한 ReadYourWrites 키
+public record PendingMemoEdit(long memoId, long ownerId, String ownerEmail, String title, String content,
+                              LocalDateTime updatedAt, long queuedNanos) {
+
+    // String 헤더 등 대략적인 고정 비용
+    private static final int OVERHEAD_BYTES = 128;
+
+    public static PendingMemoEdit of(long memoId, long ownerId, String ownerEmail, String title, String content) {
+        return new PendingMemoEdit(memoId, ownerId, ownerEmail, title, content,
+                LocalDateTime.now().truncatedTo(ChronoUnit.MICROS), System.nanoTime());
+    }
+
+    // 이전 변경을 이 변경으로 덮어씀. 지연 측정을 위해 처음 들어온 시각은 이전 것을 씀
+    PendingMemoEdit replacing(PendingMemoEdit previous) {
+        return new PendingMemoEdit(memoId, ownerId, ownerEmail, title, content, updatedAt, previous.queuedNanos);
+    }
+
+    // 메모리 상한 계산용 크기 (char 2바이트 기준)
+    long bytes() {
+        return OVERHEAD_BYTES + 2L * (title.length() + content.length());
+    }
+}
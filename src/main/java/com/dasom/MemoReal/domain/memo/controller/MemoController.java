@@ -0,0 +1,88 @@
+package com.dasom.MemoReal.domain.memo.controller;
+
+import com.dasom.MemoReal.domain.memo.dto.MemoDTO;
+import com.dasom.MemoReal.domain.memo.dto.MemoPageDTO;
+import com.dasom.MemoReal.domain.memo.dto.MemoRequestDTO;
+import com.dasom.MemoReal.domain.memo.service.MemoService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/memos")
+public class MemoController {
+
+    private final MemoService memoService;
+
+    @Operation(summary = "내 메모 목록", description = "최신순으로 메모 목록을 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 넘겨 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 페이지 크기")
+    })
+    @GetMapping
+    public ResponseEntity<MemoPageDTO> getLatest(
+            @Parameter(description = "이전 응답의 nextCursor. 없으면 첫 페이지") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1~100, 기본 20)") @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(memoService.getLatest(cursor, size));
+    }
+
+    @Operation(summary = "메모 조회", description = "내 메모 하나를 본문과 함께 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "메모 없음")
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<MemoDTO> get(@PathVariable long id) {
+        return ResponseEntity.ok(memoService.get(id));
+    }
+
+    @Operation(summary = "메모 작성", description = "새 메모를 작성합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "작성 성공"),
+            @ApiResponse(responseCode = "400", description = "입력값 오류")
+    })
+    @PostMapping
+    public ResponseEntity<MemoDTO> create(@RequestBody MemoRequestDTO request) {
+        return ResponseEntity.ok(memoService.create(request));
+    }
+
+    @Operation(summary = "메모 수정", description = "내 메모의 제목과 본문을 수정합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "수정 성공"),
+            @ApiResponse(responseCode = "400", description = "입력값 오류"),
+            @ApiResponse(responseCode = "404", description = "메모 없음")
+    })
+    @PutMapping("/{id}")
+    public ResponseEntity<MemoDTO> update(@PathVariable long id, @RequestBody MemoRequestDTO request) {
+        return ResponseEntity.ok(memoService.update(id, request));
+    }
+
+    @Operation(summary = "메모 자동 저장", description = "편집 중인 메모를 자동 저장합니다. 바로 응답하고 DB 에는 잠시 뒤 반영되며, 그동안의 조회는 자동 저장된 내용을 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "저장 요청 접수"),
+            @ApiResponse(responseCode = "400", description = "입력값 오류"),
+            @ApiResponse(responseCode = "404", description = "메모 없음"),
+            @ApiResponse(responseCode = "429", description = "자동 저장 요청이 많음. Retry-After 뒤에 다시 시도")
+    })
+    @PutMapping("/{id}/autosave")
+    public ResponseEntity<Void> autosave(@PathVariable long id, @RequestBody MemoRequestDTO request) {
+        memoService.autosave(id, request);
+        return ResponseEntity.accepted().build();
+    }
+
+    @Operation(summary = "메모 삭제", description = "내 메모를 삭제합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "삭제 성공"),
+            @ApiResponse(responseCode = "404", description = "메모 없음")
+    })
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable long id) {
+        memoService.delete(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,67 @@
+package com.dasom.MemoReal.domain.memo.dto;
+
+import com.dasom.MemoReal.global.exception.BusinessException;
+import com.dasom.MemoReal.global.exception.ErrorCode;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+// 최신순 목록에서 마지막으로 받은 메모의 (created_at, id). 다음 페이지는 이 위치보다 오래된 것부터
+// 클라이언트에는 내용을 알 수 없는 토큰으로 내보냄: base64url(버전 1byte | created_at µs 8byte | id 8byte)
+// 조회는 항상 현재 사용자의 메모로 제한되므로 토큰을 조작해도 다른 사용자의 메모는 볼 수 없음
+public record MemoCursor(LocalDateTime createdAt, long id) {
+
+    private static final byte VERSION = 1;
+    private static final int LENGTH = 1 + Long.BYTES * 2;
+    // MySQL DATETIME 범위. 벗어난 값은 쿼리에 넘기기 전에 거절
+    private static final LocalDateTime MIN_TIME = LocalDateTime.of(1000, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_TIME = LocalDateTime.of(9999, 12, 31, 23, 59, 59, 999_999_000);
+
+    public static MemoCursor of(MemoSummaryDTO last) {
+        return new MemoCursor(last.getCreatedAt(), last.getId());
+    }
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(LENGTH)
+                .put(VERSION)
+                .putLong(toEpochMicros(createdAt))
+                .putLong(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public static MemoCursor decode(String token) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+        if (bytes.length != LENGTH || bytes[0] != VERSION) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, LENGTH - 1);
+        LocalDateTime createdAt;
+        try {
+            createdAt = fromEpochMicros(buffer.getLong());
+        } catch (DateTimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+        if (createdAt.isBefore(MIN_TIME) || createdAt.isAfter(MAX_TIME)) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+        return new MemoCursor(createdAt, buffer.getLong());
+    }
+
+    // created_at 은 서버 로컬 시각이지만 커서 안에서는 숫자로만 쓰므로 UTC 로 고정해서 변환
+    private static long toEpochMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+}
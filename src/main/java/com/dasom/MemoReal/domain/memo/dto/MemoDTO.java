@@ -0,0 +1,29 @@
+package com.dasom.MemoReal.domain.memo.dto;
+
+import com.dasom.MemoReal.domain.memo.entity.Memo;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class MemoDTO {
+    private Long id;
+    private String title;
+    private String content;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    static public MemoDTO toDto(Memo memo) {
+        return MemoDTO.builder()
+                .id(memo.getId())
+                .title(memo.getTitle())
+                .content(memo.getContent())
+                .createdAt(memo.getCreatedAt())
+                .updatedAt(memo.getUpdatedAt())
+                .build();
+    }
+}
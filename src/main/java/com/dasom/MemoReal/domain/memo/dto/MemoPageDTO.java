@@ -0,0 +1,14 @@
+package com.dasom.MemoReal.domain.memo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 최신순 메모 목록 한 페이지. nextCursor 가 null 이면 마지막 페이지
+@Getter
+@AllArgsConstructor
+public class MemoPageDTO {
+    private List<MemoSummaryDTO> memos;
+    private String nextCursor;
+}
@@ -0,0 +1,14 @@
+package com.dasom.MemoReal.domain.memo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 메모 작성 / 수정
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemoRequestDTO {
+    private String title;
+    private String content;
+}
@@ -0,0 +1,18 @@
+package com.dasom.MemoReal.domain.memo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+// 목록용 projection. 본문 없이 인덱스(idx_memo_owner_created)에 있는 컬럼만 읽음
+// 엔티티가 아니므로 영속성 컨텍스트에도 올라가지 않음
+@Getter
+@ToString
+@AllArgsConstructor
+public class MemoSummaryDTO {
+    private Long id;
+    private String title;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,14 @@
+package com.dasom.MemoReal.domain.memo.dto;
+
+import java.time.LocalDateTime;
+
+// 검색 색인을 만들 때 나눠서 읽는 projection
+public interface MemoTextDTO {
+    Long getId();
+
+    String getTitle();
+
+    String getContent();
+
+    LocalDateTime getUpdatedAt();
+}
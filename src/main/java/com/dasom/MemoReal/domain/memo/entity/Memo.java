@@ -0,0 +1,63 @@
+package com.dasom.MemoReal.domain.memo.entity;
+
+import com.dasom.MemoReal.domain.user.entity.User;
+import com.dasom.MemoReal.global.id.Tsid;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+@Entity
+@Table(indexes = {
+        // 목록 조회용 covering index (V3__create_memo.sql)
+        @Index(name = "idx_memo_owner_created", columnList = "owner_id, created_at desc, id desc, title"),
+        // 검색 색인의 변경분 조회용 (V4__add_memo_updated_index.sql)
+        @Index(name = "idx_memo_owner_updated", columnList = "owner_id, updated_at")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Memo {
+
+    public static final int MAX_TITLE_LENGTH = 255;
+    public static final int MAX_CONTENT_LENGTH = 10000;
+
+    @Id
+    @Tsid
+    private Long id;
+
+    // 저장 시에는 id 만 필요하므로 getReferenceById 로 넣음 (User 조회 없음)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "owner_id", nullable = false, foreignKey = @ForeignKey(name = "fk_memo_owner"))
+    private User owner;
+
+    @Column(nullable = false, length = MAX_TITLE_LENGTH)
+    private String title;
+
+    @Column(nullable = false, length = MAX_CONTENT_LENGTH)
+    private String content;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // DB(DATETIME(6)) 와 같은 정밀도로 맞춰서 커서에 담긴 값과 저장된 값이 항상 같게 함
+    @PrePersist
+    void onCreate() {
+        createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        updatedAt = createdAt;
+    }
+
+    public void update(String title, String content) {
+        this.title = title;
+        this.content = content;
+        this.updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+}
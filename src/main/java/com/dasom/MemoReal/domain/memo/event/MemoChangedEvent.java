@@ -0,0 +1,16 @@
+package com.dasom.MemoReal.domain.memo.event;
+
+import java.time.LocalDateTime;
+
+// 메모 작성 / 수정 / 삭제. 트랜잭션 커밋 후 검색 색인 등이 받음 (삭제면 title, content, updatedAt 은 null)
+public record MemoChangedEvent(long ownerId, long memoId, String title, String content, LocalDateTime updatedAt,
+                               boolean deleted) {
+
+    public static MemoChangedEvent saved(long ownerId, long memoId, String title, String content, LocalDateTime updatedAt) {
+        return new MemoChangedEvent(ownerId, memoId, title, content, updatedAt, false);
+    }
+
+    public static MemoChangedEvent deleted(long ownerId, long memoId) {
+        return new MemoChangedEvent(ownerId, memoId, null, null, null, true);
+    }
+}
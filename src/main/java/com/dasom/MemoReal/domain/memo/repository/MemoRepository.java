@@ -0,0 +1,62 @@
+package com.dasom.MemoReal.domain.memo.repository;
+
+import com.dasom.MemoReal.domain.memo.dto.MemoSummaryDTO;
+import com.dasom.MemoReal.domain.memo.dto.MemoTextDTO;
+import com.dasom.MemoReal.domain.memo.entity.Memo;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// 목록은 OFFSET 대신 keyset(seek) 방식. 마지막으로 본 (created_at, id) 보다 오래된 것을 limit 개만 읽으므로
+// 몇 번째 페이지든 인덱스에서 위치를 바로 찾아 같은 양만 읽음 (메모 수와 무관)
+// m.owner.id 는 FK 컬럼이라 user 조인 없음
+public interface MemoRepository extends JpaRepository<Memo, Long> {
+
+    @Query("select new com.dasom.MemoReal.domain.memo.dto.MemoSummaryDTO(m.id, m.title, m.createdAt) from Memo m " +
+            "where m.owner.id = :ownerId " +
+            "order by m.createdAt desc, m.id desc")
+    List<MemoSummaryDTO> findLatest(@Param("ownerId") long ownerId, Limit limit);
+
+    // (created_at, id) < (:createdAt, :id) 를 풀어 쓴 조건. 앞의 created_at <= :createdAt 은 같은 결과를 내지만
+    // 인덱스 범위의 시작점이 되어서 앞 페이지들을 건너뛰지 않고 바로 찾아가게 함
+    @Query("select new com.dasom.MemoReal.domain.memo.dto.MemoSummaryDTO(m.id, m.title, m.createdAt) from Memo m " +
+            "where m.owner.id = :ownerId and m.createdAt <= :createdAt " +
+            "and (m.createdAt < :createdAt or m.id < :id) " +
+            "order by m.createdAt desc, m.id desc")
+    List<MemoSummaryDTO> findLatestBefore(@Param("ownerId") long ownerId, @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") long id, Limit limit);
+
+    Optional<Memo> findByIdAndOwnerId(long id, long ownerId);
+
+    // 자동 저장 전 소유 확인 (본문은 읽지 않음)
+    boolean existsByIdAndOwnerId(long id, long ownerId);
+
+    // 조회 없이 바로 삭제. 다른 사용자의 메모면 0
+    @Modifying
+    @Query("delete from Memo m where m.id = :id and m.owner.id = :ownerId")
+    int deleteByIdAndOwnerId(@Param("id") long id, @Param("ownerId") long ownerId);
+
+    // 검색 결과의 메모 id 로 목록 항목을 읽음. 그 사이 삭제된 메모는 빠짐
+    // 검색은 트랜잭션 없이 실행되므로 이 조회만 짧은 읽기 전용 트랜잭션(replica)으로
+    @Transactional(readOnly = true)
+    @Query("select new com.dasom.MemoReal.domain.memo.dto.MemoSummaryDTO(m.id, m.title, m.createdAt) from Memo m " +
+            "where m.owner.id = :ownerId and m.id in :ids")
+    List<MemoSummaryDTO> findSummariesByOwnerIdAndIdIn(@Param("ownerId") long ownerId, @Param("ids") Collection<Long> ids);
+
+    // 검색 색인용 (idx_memo_owner_updated). (updatedAt, id) 다음부터 limit 개씩 keyset 으로 읽음
+    // 본문이 최대 10,000자라서 Stream 으로 한 번에 읽으면 MySQL 드라이버가 결과 전체를 힙에 버퍼링하므로 나눠서 읽음
+    // updatedAt >= 조건은 인덱스 범위 시작점을 주기 위한 것 (OR 조건만으로는 범위를 못 잡음)
+    @Query("select m.id as id, m.title as title, m.content as content, m.updatedAt as updatedAt from Memo m " +
+            "where m.owner.id = :ownerId and m.updatedAt >= :updatedAt " +
+            "and (m.updatedAt > :updatedAt or m.id > :id) order by m.updatedAt, m.id")
+    List<MemoTextDTO> findTextUpdatedAfter(@Param("ownerId") long ownerId, @Param("updatedAt") LocalDateTime updatedAt,
+                                           @Param("id") long id, Limit limit);
+}
@@ -0,0 +1,166 @@
+package com.dasom.MemoReal.domain.memo.service;
+
+import com.dasom.MemoReal.domain.memo.autosave.MemoWriteBehind;
+import com.dasom.MemoReal.domain.memo.autosave.PendingMemoEdit;
+import com.dasom.MemoReal.domain.memo.dto.MemoCursor;
+import com.dasom.MemoReal.domain.memo.dto.MemoDTO;
+import com.dasom.MemoReal.domain.memo.dto.MemoPageDTO;
+import com.dasom.MemoReal.domain.memo.dto.MemoRequestDTO;
+import com.dasom.MemoReal.domain.memo.dto.MemoSummaryDTO;
+import com.dasom.MemoReal.domain.memo.entity.Memo;
+import com.dasom.MemoReal.domain.memo.event.MemoChangedEvent;
+import com.dasom.MemoReal.domain.memo.repository.MemoRepository;
+import com.dasom.MemoReal.domain.user.repository.UserRepository;
+import com.dasom.MemoReal.global.exception.BusinessException;
+import com.dasom.MemoReal.global.exception.ErrorCode;
+import com.dasom.MemoReal.global.security.principal.AuthUser;
+import com.dasom.MemoReal.global.security.util.SecurityUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 메모는 항상 현재 사용자(SecurityUtil)의 것만 다룸. 다른 사용자의 메모는 없는 것과 같게 404
+// 자동 저장된 변경은 DB 에 쓰이기 전까지 MemoWriteBehind 에 있으므로 조회 결과에 덮어씌움
+@RequiredArgsConstructor
+@Service
+@Transactional(readOnly = true)
+public class MemoService {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final MemoRepository memoRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MemoWriteBehind memoWriteBehind;
+
+    // 최신순 목록. cursor 가 없으면 첫 페이지
+    // 다음 페이지가 있는지 알기 위해 한 개 더 읽음 (count 쿼리 없음)
+    public MemoPageDTO getLatest(String cursor, Integer size) {
+        long ownerId = SecurityUtil.getCurrentUser().id();
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        Limit limit = Limit.of(pageSize + 1);
+        List<MemoSummaryDTO> memos;
+        if (cursor == null || cursor.isEmpty()) {
+            memos = memoRepository.findLatest(ownerId, limit);
+        } else {
+            MemoCursor position = MemoCursor.decode(cursor);
+            memos = memoRepository.findLatestBefore(ownerId, position.createdAt(), position.id(), limit);
+        }
+        memos = withPendingTitles(memos);
+        if (memos.size() <= pageSize) {
+            return new MemoPageDTO(memos, null);
+        }
+        List<MemoSummaryDTO> page = memos.subList(0, pageSize);
+        return new MemoPageDTO(page, MemoCursor.of(page.get(pageSize - 1)).encode());
+    }
+
+    public MemoDTO get(long id) {
+        MemoDTO memo = MemoDTO.toDto(findOwned(id));
+        PendingMemoEdit pending = memoWriteBehind.find(id);
+        if (pending == null) {
+            return memo;
+        }
+        return MemoDTO.builder()
+                .id(memo.getId())
+                .title(pending.title())
+                .content(pending.content())
+                .createdAt(memo.getCreatedAt())
+                .updatedAt(pending.updatedAt())
+                .build();
+    }
+
+    @Transactional
+    public MemoDTO create(MemoRequestDTO request) {
+        validate(request);
+        long ownerId = SecurityUtil.getCurrentUser().id();
+        Memo memo = memoRepository.save(Memo.builder()
+                .owner(userRepository.getReferenceById(ownerId))
+                .title(request.getTitle())
+                .content(request.getContent())
+                .build());
+        publishSaved(ownerId, memo);
+        return MemoDTO.toDto(memo);
+    }
+
+    @Transactional
+    public MemoDTO update(long id, MemoRequestDTO request) {
+        validate(request);
+        Memo memo = findOwned(id);
+        // 명시적인 저장이 우선. 이미 쓰는 중인 자동 저장은 updated_at 조건으로 이 수정을 덮어쓰지 못함
+        memoWriteBehind.discard(id);
+        memo.update(request.getTitle(), request.getContent());
+        publishSaved(memo.getOwner().getId(), memo);
+        return MemoDTO.toDto(memo);
+    }
+
+    @Transactional
+    public void delete(long id) {
+        long ownerId = SecurityUtil.getCurrentUser().id();
+        if (memoRepository.deleteByIdAndOwnerId(id, ownerId) == 0) {
+            throw new BusinessException(ErrorCode.MEMO_NOT_FOUND);
+        }
+        memoWriteBehind.discard(id);
+        eventPublisher.publishEvent(MemoChangedEvent.deleted(ownerId, id));
+    }
+
+    // 자동 저장. 버퍼에 넣고 바로 돌아감 (DB 에는 flush-interval-millis 안에 배치로 쓰임)
+    // 소유 확인은 버퍼에 없을 때만 DB 로 하고, 이미 있으면 버퍼의 소유자와 비교
+    // 버퍼가 가득 차면 잠깐 기다릴 수 있으므로 그동안 커넥션을 붙잡지 않도록 트랜잭션 없이 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void autosave(long id, MemoRequestDTO request) {
+        validate(request);
+        AuthUser user = SecurityUtil.getCurrentUser();
+        long ownerId = user.id();
+        PendingMemoEdit current = memoWriteBehind.find(id);
+        boolean owned = current != null
+                ? current.ownerId() == ownerId
+                : memoRepository.existsByIdAndOwnerId(id, ownerId);
+        if (!owned) {
+            throw new BusinessException(ErrorCode.MEMO_NOT_FOUND);
+        }
+        memoWriteBehind.submit(PendingMemoEdit.of(id, ownerId, user.email(), request.getTitle(),
+                request.getContent()));
+    }
+
+    // 커밋된 뒤에 검색 색인 등에 전달됨 (@TransactionalEventListener)
+    private void publishSaved(long ownerId, Memo memo) {
+        eventPublisher.publishEvent(MemoChangedEvent.saved(ownerId, memo.getId(), memo.getTitle(), memo.getContent(),
+                memo.getUpdatedAt()));
+    }
+
+    // 목록의 제목도 아직 쓰이지 않은 자동 저장 기준으로
+    private List<MemoSummaryDTO> withPendingTitles(List<MemoSummaryDTO> memos) {
+        if (memoWriteBehind.getPendingCount() == 0) {
+            return memos;
+        }
+        List<MemoSummaryDTO> result = new ArrayList<>(memos.size());
+        for (MemoSummaryDTO memo : memos) {
+            PendingMemoEdit pending = memoWriteBehind.find(memo.getId());
+            result.add(pending == null ? memo : new MemoSummaryDTO(memo.getId(), pending.title(), memo.getCreatedAt()));
+        }
+        return result;
+    }
+
+    private Memo findOwned(long id) {
+        return memoRepository.findByIdAndOwnerId(id, SecurityUtil.getCurrentUser().id())
+                .orElseThrow(() -> new BusinessException(ErrorCode.MEMO_NOT_FOUND));
+    }
+
+    private static void validate(MemoRequestDTO request) {
+        if (request.getTitle() == null || request.getTitle().isBlank()
+                || request.getTitle().length() > Memo.MAX_TITLE_LENGTH
+                || request.getContent() == null || request.getContent().length() > Memo.MAX_CONTENT_LENGTH) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+}
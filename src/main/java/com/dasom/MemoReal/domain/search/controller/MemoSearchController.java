@@ -0,0 +1,36 @@
+package com.dasom.MemoReal.domain.search.controller;
+
+import com.dasom.MemoReal.domain.search.dto.MemoSearchResultDTO;
+import com.dasom.MemoReal.domain.search.service.MemoSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/memos/search")
+public class MemoSearchController {
+
+    private final MemoSearchService memoSearchService;
+
+    @Operation(summary = "내 메모 검색", description = "제목과 본문에 검색어가 포함된 메모를 관련도 순으로 조회합니다. 검색어는 두 글자 이상이어야 합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "검색 성공"),
+            @ApiResponse(responseCode = "400", description = "검색어가 너무 짧거나 결과 수가 범위를 벗어남")
+    })
+    @GetMapping
+    public ResponseEntity<List<MemoSearchResultDTO>> search(
+            @Parameter(description = "검색어") @RequestParam("q") String query,
+            @Parameter(description = "최대 결과 수 (1~100, 기본 20)") @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(memoSearchService.search(query, size));
+    }
+}
@@ -0,0 +1,18 @@
+package com.dasom.MemoReal.domain.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+// 검색 결과 한 건 (점수 높은 순). 본문은 목록과 같이 포함하지 않음
+@Getter
+@ToString
+@AllArgsConstructor
+public class MemoSearchResultDTO {
+    private Long id;
+    private String title;
+    private LocalDateTime createdAt;
+    private float score;
+}
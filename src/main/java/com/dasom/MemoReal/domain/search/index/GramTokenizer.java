@@ -0,0 +1,55 @@
+package com.dasom.MemoReal.domain.search.index;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+
+// 글자 단위 bigram / trigram 추출. 형태소 분석 없이 한국어 부분 일치를 찾을 수 있음
+// NFKC 정규화 + 소문자 변환 후, 글자/숫자가 이어진 구간 안에서만 gram 을 만듦 (공백, 문장부호를 넘지 않음)
+// gram 은 long 하나로 표현: | 길이 (bit 48~) | 글자 3개 x 16bit |
+public final class GramTokenizer {
+
+    private static final int CHAR_BITS = 16;
+    private static final long BIGRAM = 2L << 48;
+    private static final long TRIGRAM = 3L << 48;
+
+    private GramTokenizer() {
+    }
+
+    // 중복을 제거하고 정렬한 gram 목록
+    public static long[] grams(String text) {
+        if (text == null || text.isEmpty()) {
+            return new long[0];
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC);
+        long[] grams = new long[Math.max(4, normalized.length() * 2)];
+        int count = 0;
+        // 현재 구간의 직전 두 글자 (없으면 -1)
+        int prev2 = -1;
+        int prev1 = -1;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                prev2 = -1;
+                prev1 = -1;
+                continue;
+            }
+            c = Character.toLowerCase(c);
+            if (prev1 >= 0) {
+                grams[count++] = BIGRAM | ((long) prev1 << CHAR_BITS) | c;
+                if (prev2 >= 0) {
+                    grams[count++] = TRIGRAM | ((long) prev2 << (CHAR_BITS * 2)) | ((long) prev1 << CHAR_BITS) | c;
+                }
+            }
+            prev2 = prev1;
+            prev1 = c;
+        }
+        Arrays.sort(grams, 0, count);
+        int unique = 0;
+        for (int i = 0; i < count; i++) {
+            if (unique == 0 || grams[unique - 1] != grams[i]) {
+                grams[unique++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, unique);
+    }
+}
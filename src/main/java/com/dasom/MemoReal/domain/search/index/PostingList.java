@@ -0,0 +1,75 @@
+package com.dasom.MemoReal.domain.search.index;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+// gram 하나의 문서 번호 목록. 오름차순 문서 번호를 이전 값과의 차이(delta)로 바꿔 varint(7bit 단위)로 저장
+// 문서 번호는 추가될 때마다 커지므로 새 문서는 항상 끝에 붙이기만 하면 됨
+// 같은 형식을 세그먼트 파일에도 그대로 씀
+public final class PostingList {
+
+    private byte[] bytes = new byte[8];
+    private int size;
+    private int last;
+    private int count;
+
+    public void append(int doc) {
+        if (size + 5 > bytes.length) {
+            bytes = Arrays.copyOf(bytes, bytes.length * 2);
+        }
+        size = writeVarint(bytes, size, doc - last);
+        last = doc;
+        count++;
+    }
+
+    public void clear() {
+        size = 0;
+        last = 0;
+        count = 0;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public int sizeInBytes() {
+        return size;
+    }
+
+    byte[] bytes() {
+        return bytes;
+    }
+
+    public void forEach(IntConsumer consumer) {
+        decode(ByteBuffer.wrap(bytes, 0, size), 0, size, consumer);
+    }
+
+    static int writeVarint(byte[] buffer, int position, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return position;
+    }
+
+    // buffer 의 [offset, offset + length) 구간을 디코딩 (절대 위치로만 읽어서 buffer 상태를 바꾸지 않음)
+    static void decode(ByteBuffer buffer, int offset, int length, IntConsumer consumer) {
+        int position = offset;
+        int end = offset + length;
+        int doc = 0;
+        while (position < end) {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = buffer.get(position++);
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            doc += value;
+            consumer.accept(doc);
+        }
+    }
+}
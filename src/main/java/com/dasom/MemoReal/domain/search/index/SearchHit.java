@@ -0,0 +1,4 @@
+package com.dasom.MemoReal.domain.search.index;
+
+public record SearchHit(long memoId, float score) {
+}
@@ -0,0 +1,188 @@
+package com.dasom.MemoReal.domain.search.index;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+// 사용자 한 명의 색인을 담은 읽기 전용 파일. 메모리 매핑해서 그대로 검색에 씀 (시작 시 파싱 / 힙 복사 없음)
+//
+// | header: magic, version, docCount, asOfMicros                  |
+// | memo ids: long x docCount (문서 번호 순)                          |
+// | updated micros: long x docCount (문서별 메모의 updated_at)          |
+// | postings: PostingList 형식의 바이트를 gram 순서대로 이어 붙임         |
+// | gram table: (gram long, offset int, length int, df int) x gramCount, gram 오름차순 |
+// | footer: gramCount int, tableOffset long, magic int             |
+public final class Segment {
+
+    private static final int MAGIC = 0x4D524E47; // "MRNG"
+    // 2: 문서별 updated_at 추가. 이전 버전 파일은 읽지 못하므로 버리고 DB 에서 다시 만듦
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 4 + 4 + 4 + 8;
+    private static final int FOOTER_BYTES = 4 + 8 + 4;
+    private static final int ENTRY_BYTES = 8 + 4 + 4 + 4;
+
+    private final MappedByteBuffer buffer;
+    private final int docCount;
+    private final long asOfMicros;
+    private final int gramCount;
+    private final int tableOffset;
+
+    private Segment(MappedByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        int size = buffer.capacity();
+        if (size < HEADER_BYTES + FOOTER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(size - 4) != MAGIC) {
+            throw new IOException("Not a search segment");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported search segment version " + buffer.getInt(4));
+        }
+        this.docCount = buffer.getInt(8);
+        this.asOfMicros = buffer.getLong(12);
+        this.gramCount = buffer.getInt(size - FOOTER_BYTES);
+        this.tableOffset = Math.toIntExact(buffer.getLong(size - FOOTER_BYTES + 4));
+    }
+
+    public static Segment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Search segment too large: " + path);
+            }
+            // 매핑은 채널을 닫아도 유지됨
+            return new Segment(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public int docCount() {
+        return docCount;
+    }
+
+    // 이 세그먼트에 들어간 메모 중 가장 늦은 updated_at (µs). 재시작 시 이후 변경분만 DB 에서 다시 읽음
+    public long asOfMicros() {
+        return asOfMicros;
+    }
+
+    public long memoId(int doc) {
+        return buffer.getLong(HEADER_BYTES + doc * 8);
+    }
+
+    public long updatedMicros(int doc) {
+        return buffer.getLong(HEADER_BYTES + (docCount + doc) * 8L);
+    }
+
+    int gramCount() {
+        return gramCount;
+    }
+
+    long gram(int entry) {
+        return buffer.getLong(tableOffset + entry * ENTRY_BYTES);
+    }
+
+    int df(int entry) {
+        return buffer.getInt(tableOffset + entry * ENTRY_BYTES + 16);
+    }
+
+    // gram 의 table 위치 (이진 탐색). 없으면 -1
+    int find(long gram) {
+        int low = 0;
+        int high = gramCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long value = gram(mid);
+            if (value < gram) {
+                low = mid + 1;
+            } else if (value > gram) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    void forEachDoc(int entry, IntConsumer consumer) {
+        int base = tableOffset + entry * ENTRY_BYTES;
+        PostingList.decode(buffer, buffer.getInt(base + 8), buffer.getInt(base + 12), consumer);
+    }
+
+    // 임시 파일에 다 쓴 뒤 이름을 바꿔서 교체 (쓰는 도중 죽어도 기존 세그먼트는 그대로)
+    // 이미 매핑된 이전 파일은 교체 후에도 읽을 수 있음
+    static final class Writer implements AutoCloseable {
+
+        private final Path path;
+        private final Path temp;
+        private final DataOutputStream out;
+        private long position;
+
+        private long[] grams = new long[1024];
+        private int[] offsets = new int[1024];
+        private int[] lengths = new int[1024];
+        private int[] dfs = new int[1024];
+        private int gramCount;
+
+        Writer(Path path, long asOfMicros, long[] memoIds, long[] updatedMicros, int docCount) throws IOException {
+            this.path = path;
+            this.temp = path.resolveSibling(path.getFileName() + ".tmp");
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 64 * 1024));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(docCount);
+            out.writeLong(asOfMicros);
+            for (int i = 0; i < docCount; i++) {
+                out.writeLong(memoIds[i]);
+            }
+            for (int i = 0; i < docCount; i++) {
+                out.writeLong(updatedMicros[i]);
+            }
+            position = HEADER_BYTES + (long) docCount * 16;
+        }
+
+        // gram 은 오름차순으로 넣어야 함
+        void add(long gram, PostingList postings) throws IOException {
+            if (gramCount == grams.length) {
+                int capacity = gramCount * 2;
+                grams = Arrays.copyOf(grams, capacity);
+                offsets = Arrays.copyOf(offsets, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+                dfs = Arrays.copyOf(dfs, capacity);
+            }
+            grams[gramCount] = gram;
+            offsets[gramCount] = Math.toIntExact(position);
+            lengths[gramCount] = postings.sizeInBytes();
+            dfs[gramCount] = postings.count();
+            gramCount++;
+            out.write(postings.bytes(), 0, postings.sizeInBytes());
+            position += postings.sizeInBytes();
+        }
+
+        Segment commit() throws IOException {
+            long tableOffset = position;
+            for (int i = 0; i < gramCount; i++) {
+                out.writeLong(grams[i]);
+                out.writeInt(offsets[i]);
+                out.writeInt(lengths[i]);
+                out.writeInt(dfs[i]);
+            }
+            out.writeInt(gramCount);
+            out.writeLong(tableOffset);
+            out.writeInt(MAGIC);
+            out.close();
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return open(path);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package com.dasom.MemoReal.domain.search.index;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 사용자 한 명의 메모 역색인 (gram -> 문서 번호 목록)
+// base: 마지막으로 저장한 세그먼트 (mmap, 읽기 전용), delta: 그 뒤에 추가된 문서의 posting 을 메모리에 덧붙임
+// 문서 번호는 base 다음부터 계속 증가하므로 base + delta 순서로 읽으면 항상 오름차순
+// 수정은 기존 문서를 삭제 표시하고 새 번호로 다시 추가, 삭제는 표시만 함. 세그먼트를 새로 쓸 때 정리됨
+// 문서마다 메모의 updated_at 을 들고 있어서 같은 변경을 여러 번 받거나 (이벤트 + DB 재조회) 순서가 바뀌어도 최신 것만 남음
+public final class UserIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Segment base;
+    private int baseDocs;
+    private long[] deltaIds = new long[16];
+    private long[] deltaUpdated = new long[16];
+    private int deltaDocs;
+    private final Map<Long, PostingList> delta = new HashMap<>();
+    private LongIntHashMap docs;
+    private BitSet deleted = new BitSet();
+    private int deletedCount;
+    private long asOfMicros;
+    private boolean dirty;
+
+    public UserIndex(Segment base) {
+        reset(base);
+    }
+
+    private void reset(Segment segment) {
+        base = segment;
+        baseDocs = segment == null ? 0 : segment.docCount();
+        asOfMicros = segment == null ? 0 : segment.asOfMicros();
+        docs = new LongIntHashMap(baseDocs + 16);
+        for (int doc = 0; doc < baseDocs; doc++) {
+            docs.put(segment.memoId(doc), doc);
+        }
+        deltaIds = new long[16];
+        deltaUpdated = new long[16];
+        deltaDocs = 0;
+        delta.clear();
+        deleted = new BitSet();
+        deletedCount = 0;
+    }
+
+    // 메모 추가 / 수정. updatedMicros 는 메모의 updated_at (재시작 시 변경분을 찾는 기준)
+    // 이미 같거나 더 최신 버전이 들어 있으면 무시하고 false
+    public boolean put(long memoId, String text, long updatedMicros) {
+        lock.readLock().lock();
+        try {
+            if (hasVersion(memoId, updatedMicros)) {
+                return false;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        long[] grams = GramTokenizer.grams(text);
+        lock.writeLock().lock();
+        try {
+            if (hasVersion(memoId, updatedMicros)) {
+                return false;
+            }
+            markDeleted(memoId);
+            int doc = baseDocs + deltaDocs;
+            if (deltaDocs == deltaIds.length) {
+                deltaIds = Arrays.copyOf(deltaIds, deltaDocs * 2);
+                deltaUpdated = Arrays.copyOf(deltaUpdated, deltaDocs * 2);
+            }
+            deltaUpdated[deltaDocs] = updatedMicros;
+            deltaIds[deltaDocs++] = memoId;
+            docs.put(memoId, doc);
+            for (long gram : grams) {
+                delta.computeIfAbsent(gram, g -> new PostingList()).append(doc);
+            }
+            asOfMicros = Math.max(asOfMicros, updatedMicros);
+            dirty = true;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean hasVersion(long memoId, long updatedMicros) {
+        int doc = docs.get(memoId);
+        return doc != LongIntHashMap.MISSING && !deleted.get(doc) && updatedMicros(doc) >= updatedMicros;
+    }
+
+    public void remove(long memoId) {
+        lock.writeLock().lock();
+        try {
+            if (markDeleted(memoId)) {
+                dirty = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean markDeleted(long memoId) {
+        int doc = docs.get(memoId);
+        if (doc == LongIntHashMap.MISSING || deleted.get(doc)) {
+            return false;
+        }
+        deleted.set(doc);
+        deletedCount++;
+        return true;
+    }
+
+    // 검색어의 gram 을 많이, 그리고 드문 gram 일수록 많이 포함한 메모 순 (같으면 최근에 추가/수정된 순)
+    // 점수 = 포함한 검색어 gram 의 idf 합. 검색어 전체 idf 중 minShouldMatch 비율 이상 포함한 메모만
+    public List<SearchHit> search(String query, int limit, double minShouldMatch) {
+        long[] grams = GramTokenizer.grams(query);
+        if (grams.length == 0 || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            int docCount = baseDocs + deltaDocs;
+            int live = docCount - deletedCount;
+            if (live == 0) {
+                return List.of();
+            }
+            float[] scores = new float[docCount];
+            float total = 0;
+            for (long gram : grams) {
+                int entry = base == null ? -1 : base.find(gram);
+                PostingList postings = delta.get(gram);
+                int df = (entry >= 0 ? base.df(entry) : 0) + (postings != null ? postings.count() : 0);
+                float idf = (float) Math.log(1 + (double) live / Math.max(1, df));
+                total += idf;
+                if (entry >= 0) {
+                    base.forEachDoc(entry, doc -> scores[doc] += idf);
+                }
+                if (postings != null) {
+                    postings.forEach(doc -> scores[doc] += idf);
+                }
+            }
+            return topHits(scores, (float) (total * minShouldMatch), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 점수 상위 limit 개. 최소 힙(루트 = 지금까지 중 가장 낮은 결과)으로 한 번만 훑음
+    private List<SearchHit> topHits(float[] scores, float threshold, int limit) {
+        int[] heap = new int[limit];
+        int size = 0;
+        for (int doc = 0; doc < scores.length; doc++) {
+            float score = scores[doc];
+            if (score <= 0 || score < threshold || deleted.get(doc)) {
+                continue;
+            }
+            if (size < limit) {
+                heap[size] = doc;
+                siftUp(heap, size++, scores);
+            } else if (better(doc, heap[0], scores)) {
+                heap[0] = doc;
+                siftDown(heap, size, scores);
+            }
+        }
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = heap[i];
+        }
+        Arrays.sort(order, (a, b) -> better(a, b, scores) ? -1 : better(b, a, scores) ? 1 : 0);
+        List<SearchHit> hits = new ArrayList<>(size);
+        for (int doc : order) {
+            hits.add(new SearchHit(memoId(doc), scores[doc]));
+        }
+        return hits;
+    }
+
+    private static boolean better(int a, int b, float[] scores) {
+        return scores[a] > scores[b] || (scores[a] == scores[b] && a > b);
+    }
+
+    private static void siftUp(int[] heap, int index, float[] scores) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!better(heap[parent], heap[index], scores)) {
+                return;
+            }
+            swap(heap, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, int size, float[] scores) {
+        int index = 0;
+        while (true) {
+            int left = index * 2 + 1;
+            if (left >= size) {
+                return;
+            }
+            int worst = left;
+            int right = left + 1;
+            if (right < size && better(heap[left], heap[right], scores)) {
+                worst = right;
+            }
+            if (!better(heap[index], heap[worst], scores)) {
+                return;
+            }
+            swap(heap, index, worst);
+            index = worst;
+        }
+    }
+
+    private static void swap(int[] heap, int a, int b) {
+        int tmp = heap[a];
+        heap[a] = heap[b];
+        heap[b] = tmp;
+    }
+
+    private long memoId(int doc) {
+        return doc < baseDocs ? base.memoId(doc) : deltaIds[doc - baseDocs];
+    }
+
+    private long updatedMicros(int doc) {
+        return doc < baseDocs ? base.updatedMicros(doc) : deltaUpdated[doc - baseDocs];
+    }
+
+    // base 와 delta 를 합치고 삭제된 문서를 뺀 새 세그먼트를 쓰고 그것을 base 로 사용
+    // 쓰는 동안에는 검색 / 갱신이 기다림
+    public void writeTo(Path path) throws IOException {
+        lock.writeLock().lock();
+        try {
+            int docCount = baseDocs + deltaDocs;
+            int[] remap = new int[docCount];
+            long[] memoIds = new long[docCount - deletedCount];
+            long[] updated = new long[memoIds.length];
+            int live = 0;
+            for (int doc = 0; doc < docCount; doc++) {
+                if (deleted.get(doc)) {
+                    remap[doc] = -1;
+                } else {
+                    remap[doc] = live;
+                    updated[live] = updatedMicros(doc);
+                    memoIds[live++] = memoId(doc);
+                }
+            }
+            long[] deltaGrams = new long[delta.size()];
+            int i = 0;
+            for (long gram : delta.keySet()) {
+                deltaGrams[i++] = gram;
+            }
+            Arrays.sort(deltaGrams);
+
+            PostingList merged = new PostingList();
+            Segment written;
+            try (Segment.Writer writer = new Segment.Writer(path, asOfMicros, memoIds, updated, live)) {
+                int baseGrams = base == null ? 0 : base.gramCount();
+                int b = 0;
+                int d = 0;
+                while (b < baseGrams || d < deltaGrams.length) {
+                    long baseGram = b < baseGrams ? base.gram(b) : Long.MAX_VALUE;
+                    long deltaGram = d < deltaGrams.length ? deltaGrams[d] : Long.MAX_VALUE;
+                    long gram = Math.min(baseGram, deltaGram);
+                    merged.clear();
+                    if (baseGram == gram) {
+                        base.forEachDoc(b++, doc -> appendLive(merged, remap, doc));
+                    }
+                    if (deltaGram == gram) {
+                        delta.get(gram).forEach(doc -> appendLive(merged, remap, doc));
+                        d++;
+                    }
+                    if (merged.count() > 0) {
+                        writer.add(gram, merged);
+                    }
+                }
+                written = writer.commit();
+            }
+            reset(written);
+            dirty = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void appendLive(PostingList postings, int[] remap, int doc) {
+        int mapped = remap[doc];
+        if (mapped >= 0) {
+            postings.append(mapped);
+        }
+    }
+
+    public boolean isDirty() {
+        lock.readLock().lock();
+        try {
+            return dirty;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long asOfMicros() {
+        lock.readLock().lock();
+        try {
+            return asOfMicros;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return baseDocs + deltaDocs - deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.dasom.MemoReal.domain.search.service;
+
+import com.dasom.MemoReal.domain.memo.dto.MemoTextDTO;
+import com.dasom.MemoReal.domain.memo.event.MemoChangedEvent;
+import com.dasom.MemoReal.domain.memo.repository.MemoRepository;
+import com.dasom.MemoReal.domain.search.index.SearchHit;
+import com.dasom.MemoReal.domain.search.index.Segment;
+import com.dasom.MemoReal.domain.search.index.UserIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 사용자별 메모 검색 색인 관리
+// 처음 검색할 때 그 사용자의 색인을 올림: 세그먼트 파일이 있으면 mmap 후 마지막 저장 이후 바뀐 메모만 DB 에서 다시 읽고,
+// 없으면 사용자의 메모 전체를 나눠서 읽어 만든 뒤 바로 파일로 저장
+// 올라온 색인은 이 노드의 메모 작성 / 수정 / 삭제 커밋 이벤트로 바로 갱신하고, 바뀐 색인은 주기적으로 파일에 다시 씀
+// 다른 노드의 작성 / 수정은 이벤트로 오지 않으므로 검색 전에 (refresh-interval-millis 에 한 번) 마지막 updated_at 이후를 DB 에서 다시 읽음
+// 삭제 이벤트를 못 받은 경우(다른 노드, 저장 전에 종료 등)는 검색 결과를 DB 에서 읽을 때 걸러지고 그때 색인에서도 지움
+// 오래 검색하지 않은 사용자의 색인은 저장 후 내리고, 올린 사용자 수가 max-loaded-users 를 넘으면 오래된 것부터 내림
+@Slf4j
+@Component
+@EnableConfigurationProperties(SearchProperties.class)
+public class MemoSearchIndex implements DisposableBean {
+
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final MemoRepository memoRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Path directory;
+    private final double minShouldMatch;
+    private final long refreshIntervalMillis;
+    private final long refreshOverlapMicros;
+    private final long idleUnloadMillis;
+    private final int maxLoadedUsers;
+    private final int readBatchSize;
+    private final ConcurrentHashMap<Long, Holder> indexes = new ConcurrentHashMap<>();
+    private final Timer queryTimer;
+
+    public MemoSearchIndex(MemoRepository memoRepository, PlatformTransactionManager transactionManager,
+                           SearchProperties properties, MeterRegistry meterRegistry) {
+        this.memoRepository = memoRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.directory = Path.of(properties.directory());
+        this.minShouldMatch = properties.minShouldMatch();
+        this.refreshIntervalMillis = properties.refreshIntervalMillis();
+        this.refreshOverlapMicros = TimeUnit.MILLISECONDS.toMicros(properties.refreshOverlapMillis());
+        this.idleUnloadMillis = properties.idleUnloadMillis();
+        this.maxLoadedUsers = properties.maxLoadedUsers();
+        this.readBatchSize = Math.max(1, properties.readBatchSize());
+        this.queryTimer = Timer.builder("search.query")
+                .description("Time to rank one search query against a loaded index")
+                .register(meterRegistry);
+        Gauge.builder("search.index.users", indexes, ConcurrentHashMap::size)
+                .description("Users whose search index is loaded")
+                .register(meterRegistry);
+    }
+
+    public List<SearchHit> search(long ownerId, String query, int limit) {
+        Holder holder = indexes.computeIfAbsent(ownerId, id -> new Holder());
+        holder.lastUsedMillis = System.currentTimeMillis();
+        UserIndex index = load(ownerId, holder);
+        refresh(ownerId, holder, index);
+        long start = System.nanoTime();
+        try {
+            return index.search(query, limit, minShouldMatch);
+        } finally {
+            queryTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 검색 결과를 DB 에서 읽었는데 없던 메모 (이미 삭제됨)
+    public void removeStale(long ownerId, long memoId) {
+        Holder holder = indexes.get(ownerId);
+        if (holder != null && holder.index != null) {
+            holder.index.remove(memoId);
+        }
+    }
+
+    // 아직 올라오지 않은 사용자는 무시 (나중에 올릴 때 DB 에서 읽으므로)
+    // 올리는 중이면 끝날 때까지 기다렸다가 반영
+    @TransactionalEventListener
+    public void onMemoChanged(MemoChangedEvent event) {
+        Holder holder = indexes.get(event.ownerId());
+        if (holder == null) {
+            return;
+        }
+        holder.lock.lock();
+        try {
+            if (holder.index == null) {
+                return;
+            }
+            if (event.deleted()) {
+                holder.index.remove(event.memoId());
+            } else {
+                holder.index.put(event.memoId(), text(event.title(), event.content()), toMicros(event.updatedAt()));
+            }
+        } finally {
+            holder.lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${memoreal.search.flush-interval-millis:30000}")
+    public void flush() {
+        indexes.forEach((ownerId, holder) -> {
+            UserIndex index = holder.index;
+            if (index != null && index.isDirty()) {
+                write(ownerId, index);
+            }
+        });
+    }
+
+    // 쉬고 있는 색인과 상한을 넘는 색인을 저장 후 내림. 다음 검색 때 파일 + DB 변경분으로 다시 올림
+    @Scheduled(fixedDelayString = "${memoreal.search.flush-interval-millis:30000}")
+    public void unloadIdle() {
+        long now = System.currentTimeMillis();
+        // 정렬 중에 lastUsedMillis 가 바뀌지 않도록 값을 복사해서 정렬
+        List<Loaded> loaded = new ArrayList<>(indexes.size());
+        indexes.forEach((ownerId, holder) -> loaded.add(new Loaded(ownerId, holder, holder.lastUsedMillis)));
+        loaded.sort(Comparator.comparingLong(Loaded::lastUsedMillis));
+        int excess = loaded.size() - maxLoadedUsers;
+        for (Loaded entry : loaded) {
+            if (excess-- > 0 || now - entry.lastUsedMillis() >= idleUnloadMillis) {
+                unload(entry.ownerId(), entry.holder());
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    private void unload(long ownerId, Holder holder) {
+        holder.lock.lock();
+        try {
+            UserIndex index = holder.index;
+            // 저장에 실패하면 내리지 않음 (다음 주기에 다시 시도)
+            if (index != null && index.isDirty() && !write(ownerId, index)) {
+                return;
+            }
+            // 내린 뒤에 온 이벤트는 무시됨 (index == null). 다음에 올릴 때 DB 에서 다시 읽음
+            holder.index = null;
+            indexes.remove(ownerId, holder);
+        } finally {
+            holder.lock.unlock();
+        }
+    }
+
+    private UserIndex load(long ownerId, Holder holder) {
+        UserIndex index = holder.index;
+        if (index != null) {
+            return index;
+        }
+        holder.lock.lock();
+        try {
+            if (holder.index == null) {
+                holder.index = open(ownerId);
+                holder.refreshedMillis = System.currentTimeMillis();
+            }
+            return holder.index;
+        } finally {
+            holder.lock.unlock();
+        }
+    }
+
+    // 다른 노드에서 작성 / 수정된 메모 반영. 이미 가진 버전은 UserIndex.put 이 무시하므로 겹쳐 읽어도 됨
+    // 같은 사용자의 다른 검색이 이미 읽는 중이면 기다리지 않고 지금 색인으로 검색
+    private void refresh(long ownerId, Holder holder, UserIndex index) {
+        long now = System.currentTimeMillis();
+        if (now - holder.refreshedMillis < refreshIntervalMillis || !holder.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            readSince(ownerId, index, fromMicros(index.asOfMicros() - refreshOverlapMicros));
+            holder.refreshedMillis = now;
+        } finally {
+            holder.refreshing.set(false);
+        }
+    }
+
+    private UserIndex open(long ownerId) {
+        long start = System.nanoTime();
+        Path path = segmentPath(ownerId);
+        Segment segment = null;
+        if (Files.exists(path)) {
+            try {
+                segment = Segment.open(path);
+            } catch (IOException e) {
+                log.warn("Discarding unreadable search segment {}: {}", path, e.getMessage());
+            }
+        }
+        UserIndex index = new UserIndex(segment);
+        // 저장 직전에 늦게 커밋된 메모를 놓치지 않도록 refresh 와 같이 겹쳐서 읽음
+        LocalDateTime since = segment == null ? BEGINNING : fromMicros(segment.asOfMicros() - refreshOverlapMicros);
+        int read = readSince(ownerId, index, since);
+        // 처음 만든 색인은 바로 저장해서 다음 시작 때는 파일에서 올림
+        if (segment == null && index.isDirty()) {
+            write(ownerId, index);
+        }
+        log.debug("Loaded search index of user {} ({} memos, {} read from DB) in {} ms", ownerId, index.size(), read,
+                (System.nanoTime() - start) / 1_000_000);
+        return index;
+    }
+
+    // updated_at 이 since 이상인 메모를 read-batch-size 개씩 읽어서 색인에 넣음. 힙에는 한 묶음만 올라감
+    private int readSince(long ownerId, UserIndex index, LocalDateTime since) {
+        int count = 0;
+        LocalDateTime updatedAt = since;
+        long id = Long.MIN_VALUE;
+        while (true) {
+            LocalDateTime fromUpdatedAt = updatedAt;
+            long fromId = id;
+            List<MemoTextDTO> memos = readOnlyTransaction.execute(status ->
+                    memoRepository.findTextUpdatedAfter(ownerId, fromUpdatedAt, fromId, Limit.of(readBatchSize)));
+            for (MemoTextDTO memo : memos) {
+                index.put(memo.getId(), text(memo.getTitle(), memo.getContent()), toMicros(memo.getUpdatedAt()));
+            }
+            count += memos.size();
+            if (memos.size() < readBatchSize) {
+                return count;
+            }
+            MemoTextDTO last = memos.get(memos.size() - 1);
+            updatedAt = last.getUpdatedAt();
+            id = last.getId();
+        }
+    }
+
+    private boolean write(long ownerId, UserIndex index) {
+        try {
+            index.writeTo(segmentPath(ownerId));
+            return true;
+        } catch (IOException e) {
+            // 다음 주기에 다시 시도. 그 사이 종료되면 재시작 때 DB 에서 변경분을 다시 읽음
+            log.warn("Failed to write search segment of user {}", ownerId, e);
+            return false;
+        }
+    }
+
+    private Path segmentPath(long ownerId) {
+        return directory.resolve(ownerId + ".seg");
+    }
+
+    private static String text(String title, String content) {
+        return title + "\n" + content;
+    }
+
+    // MemoCursor 와 같이 LocalDateTime 을 UTC 기준 µs 숫자로만 씀
+    private static long toMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+
+    private record Loaded(long ownerId, Holder holder, long lastUsedMillis) {
+    }
+
+    // 사용자별로 한 번만 올리기 위한 잠금 (ConcurrentHashMap.computeIfAbsent 안에서 DB 를 읽지 않도록)
+    private static final class Holder {
+        final ReentrantLock lock = new ReentrantLock();
+        final AtomicBoolean refreshing = new AtomicBoolean();
+        volatile UserIndex index;
+        volatile long lastUsedMillis = System.currentTimeMillis();
+        volatile long refreshedMillis;
+    }
+}
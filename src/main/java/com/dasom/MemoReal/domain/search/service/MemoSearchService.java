@@ -0,0 +1,66 @@
+package com.dasom.MemoReal.domain.search.service;
+
+import com.dasom.MemoReal.domain.memo.dto.MemoSummaryDTO;
+import com.dasom.MemoReal.domain.memo.repository.MemoRepository;
+import com.dasom.MemoReal.domain.search.dto.MemoSearchResultDTO;
+import com.dasom.MemoReal.domain.search.index.SearchHit;
+import com.dasom.MemoReal.global.exception.BusinessException;
+import com.dasom.MemoReal.global.exception.ErrorCode;
+import com.dasom.MemoReal.global.security.util.SecurityUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 현재 사용자(SecurityUtil)의 메모만 검색. 색인에서 순위를 매긴 뒤 해당 메모의 목록 항목만 DB 에서 읽음 (LIKE 스캔 없음)
+@RequiredArgsConstructor
+@Service
+public class MemoSearchService {
+
+    private final MemoSearchIndex memoSearchIndex;
+    private final MemoRepository memoRepository;
+    private final SearchProperties searchProperties;
+
+    // 트랜잭션 없이 실행. 색인을 처음 만들 때(메모 읽기 -> 토큰화 -> 세그먼트 저장)와 순위 계산 동안 커넥션을 붙잡지 않고,
+    // MemoSearchIndex 의 DB 읽기와 아래 목록 항목 조회는 각자 짧은 읽기 전용 트랜잭션에서 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<MemoSearchResultDTO> search(String query, Integer size) {
+        long ownerId = SecurityUtil.getCurrentUser().id();
+        int limit = size == null ? searchProperties.defaultResults() : size;
+        if (limit < 1 || limit > searchProperties.maxResults()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        // bigram 이 하나도 안 나오는 검색어(한 글자 등)는 색인으로 찾을 수 없음
+        if (query == null || query.strip().length() < 2) {
+            throw new BusinessException(ErrorCode.SEARCH_QUERY_TOO_SHORT);
+        }
+
+        List<SearchHit> hits = memoSearchIndex.search(ownerId, query, limit);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(hits.size());
+        for (SearchHit hit : hits) {
+            ids.add(hit.memoId());
+        }
+        Map<Long, MemoSummaryDTO> summaries = new HashMap<>();
+        for (MemoSummaryDTO summary : memoRepository.findSummariesByOwnerIdAndIdIn(ownerId, ids)) {
+            summaries.put(summary.getId(), summary);
+        }
+        List<MemoSearchResultDTO> results = new ArrayList<>(hits.size());
+        for (SearchHit hit : hits) {
+            MemoSummaryDTO summary = summaries.get(hit.memoId());
+            if (summary == null) {
+                memoSearchIndex.removeStale(ownerId, hit.memoId());
+                continue;
+            }
+            results.add(new MemoSearchResultDTO(summary.getId(), summary.getTitle(), summary.getCreatedAt(), hit.score()));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,28 @@
+package com.dasom.MemoReal.domain.search.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// memoreal.search.* : 메모 전문 검색 (사용자별 n-gram 역색인)
+@ConfigurationProperties("memoreal.search")
+public record SearchProperties(
+        // 사용자별 세그먼트 파일(<user id>.seg)을 두는 디렉터리
+        @DefaultValue("./data/search") String directory,
+        // 바뀐 색인을 세그먼트 파일로 저장하는 주기
+        @DefaultValue("30000") long flushIntervalMillis,
+        // 검색 전에 다른 노드에서 바뀐 메모를 DB 에서 다시 읽는 최소 간격 (0 이면 검색마다)
+        @DefaultValue("1000") long refreshIntervalMillis,
+        // 다시 읽을 때 색인의 마지막 updated_at 보다 이만큼 앞부터 읽음 (노드 간 시계 차이, 늦은 커밋, replica 지연)
+        @DefaultValue("60000") long refreshOverlapMillis,
+        // 이 시간 동안 검색하지 않은 사용자의 색인은 파일로 저장하고 내림
+        @DefaultValue("600000") long idleUnloadMillis,
+        // 올려 두는 사용자 수 상한. 넘으면 가장 오래 쓰지 않은 것부터 내림
+        @DefaultValue("10000") int maxLoadedUsers,
+        // DB 에서 메모를 읽을 때 한 번에 읽는 행 수
+        @DefaultValue("500") int readBatchSize,
+        // 검색어 gram 의 idf 합 중 이 비율 이상을 포함한 메모만 결과로
+        @DefaultValue("0.6") double minShouldMatch,
+        @DefaultValue("20") int defaultResults,
+        @DefaultValue("100") int maxResults
+) {
+}
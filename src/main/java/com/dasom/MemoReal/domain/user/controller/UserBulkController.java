@@ -0,0 +1,36 @@
+package com.dasom.MemoReal.domain.user.controller;
+
+import com.dasom.MemoReal.domain.user.dto.BulkJoinResultDTO;
+import com.dasom.MemoReal.domain.user.service.UserBulkService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/users")
+public class UserBulkController {
+
+    private final UserBulkService userBulkService;
+
+    @Operation(summary = "대량 회원가입", description = "JoinDTO 배열을 스트리밍으로 읽어 일괄 등록하고 레코드별 결과를 반환합니다. ADMIN 권한이 필요합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 완료 (레코드별 결과 포함)"),
+            @ApiResponse(responseCode = "400", description = "요청 본문 오류"),
+            @ApiResponse(responseCode = "403", description = "권한 없음")
+    })
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkJoinResultDTO> bulkJoin(HttpServletRequest request) throws IOException {
+        BulkJoinResultDTO result = userBulkService.join(request.getInputStream());
+        return ResponseEntity.ok(result);
+    }
+}
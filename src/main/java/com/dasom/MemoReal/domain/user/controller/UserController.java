@@ -2,14 +2,19 @@ package com.dasom.MemoReal.domain.user.controller;
 
 import com.dasom.MemoReal.domain.user.dto.JoinDTO;
 import com.dasom.MemoReal.domain.user.dto.LoginDTO;
+import com.dasom.MemoReal.domain.user.dto.ReissueDTO;
 import com.dasom.MemoReal.domain.user.dto.UserDTO;
 import com.dasom.MemoReal.domain.user.service.UserService;
 import com.dasom.MemoReal.global.jwt.dto.JwtTokenDTO;
-import com.dasom.MemoReal.global.security.util.SecurityUtil;
+import com.dasom.MemoReal.global.jwt.filter.JwtAuthenticationFilter;
+import com.dasom.MemoReal.global.security.principal.AuthUser;
+import com.dasom.MemoReal.global.security.principal.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -31,6 +36,28 @@ public class UserController {
         return ResponseEntity.ok(token);
     }
 
+    @Operation(summary = "토큰 재발급", description = "리프레시 토큰으로 새 Access/Refresh 토큰을 발급받습니다. 사용한 리프레시 토큰은 더 이상 쓸 수 없습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "재발급 성공"),
+            @ApiResponse(responseCode = "401", description = "유효하지 않거나 이미 사용된 리프레시 토큰")
+    })
+    @PostMapping("/reissue")
+    public ResponseEntity<JwtTokenDTO> reissue(@RequestBody ReissueDTO reissueDto) {
+        JwtTokenDTO token = userService.reissue(reissueDto.getRefreshToken());
+        return ResponseEntity.ok(token);
+    }
+
+    @Operation(summary = "로그아웃", description = "현재 Access Token 을 폐기하고, 함께 보낸 리프레시 토큰의 재발급 체인을 무효화합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "로그아웃 성공")
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                                       @RequestBody(required = false) ReissueDTO reissueDto) {
+        userService.logout(JwtAuthenticationFilter.resolveBearerToken(authorization), reissueDto == null ? null : reissueDto.getRefreshToken());
+        return ResponseEntity.noContent().build();
+    }
+
     @Operation(summary = "회원가입", description = "회원가입 정보를 입력받아 회원으로 등록합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "회원가입 성공"),
@@ -45,11 +72,11 @@ public class UserController {
     @Operation(summary = "토큰 테스트", description = "JWT 토큰에서 현재 사용자 닉네임을 반환합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "성공"),
-            @ApiResponse(responseCode = "403", description = "토큰 없음 또는 잘못된 토큰")
+            @ApiResponse(responseCode = "401", description = "토큰 없음 또는 잘못된 토큰")
     })
     @PostMapping("/test")
-    public ResponseEntity<String> getCurrentUsername() {
-        String username = SecurityUtil.getCurrentUsername();
-        return ResponseEntity.ok(username);
+    public ResponseEntity<String> getCurrentUsername(@Parameter(hidden = true) @CurrentUser AuthUser user) {
+        // 토큰 클레임으로 만든 사용자 정보라 DB 조회 없음
+        return ResponseEntity.ok(user.username());
     }
 }
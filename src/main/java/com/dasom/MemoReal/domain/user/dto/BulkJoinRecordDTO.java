@@ -0,0 +1,25 @@
+package com.dasom.MemoReal.domain.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+// 대량 가입 요청의 레코드 한 건에 대한 처리 결과
+@Getter
+@ToString
+@AllArgsConstructor
+@Builder
+public class BulkJoinRecordDTO {
+    private int index;
+    private String email;
+    private Status status;
+    private Long userId;
+
+    public enum Status {
+        CREATED,    // 가입 완료
+        DUPLICATE,  // email 또는 username 이 이미 존재
+        INVALID,    // 필수 값 누락
+        FAILED      // 해싱 거절 등 처리 실패
+    }
+}
@@ -0,0 +1,18 @@
+package com.dasom.MemoReal.domain.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@ToString
+@AllArgsConstructor
+@Builder
+public class BulkJoinResultDTO {
+    private int total;
+    private int created;
+    private List<BulkJoinRecordDTO> results;
+}
@@ -20,12 +20,12 @@ public class JoinDTO {
     private String username;
     private List<String> roles = new ArrayList<>();
 
-    public User toEntity(String encodedPassword, List<String> roles) {
+    public User toEntity(String encodedPassword, int roleMask) {
         return User.builder()
                 .username(username)
                 .password(encodedPassword)
                 .email(email)
-                .roles(roles)
+                .roleMask(roleMask)
                 .build();
     }
 }
@@ -0,0 +1,12 @@
+package com.dasom.MemoReal.domain.user.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ReissueDTO {
+    private String refreshToken;
+}
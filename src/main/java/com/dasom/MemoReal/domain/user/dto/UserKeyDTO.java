@@ -0,0 +1,10 @@
+package com.dasom.MemoReal.domain.user.dto;
+
+// User 테이블을 스트리밍할 때 id, email, username 만 읽어오는 projection
+public interface UserKeyDTO {
+    Long getId();
+
+    String getEmail();
+
+    String getUsername();
+}
@@ -0,0 +1,66 @@
+package com.dasom.MemoReal.domain.user.entity;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// 사용자 권한. User 테이블에는 role_mask 컬럼 하나에 비트로 저장
+// 순서를 바꾸거나 중간에 끼워 넣으면 저장된 값의 의미가 바뀌므로 새 권한은 항상 뒤에 추가
+@Getter
+public enum Role {
+    USER,
+    ADMIN;
+
+    private final int bit = 1 << ordinal();
+
+    public static int toMask(Collection<String> names) {
+        int mask = 0;
+        for (String name : names) {
+            mask |= valueOf(name).bit;
+        }
+        return mask;
+    }
+
+    public static List<String> namesOf(int mask) {
+        return Authorities.NAMES[mask & Authorities.ALL];
+    }
+
+    // mask 별로 미리 만들어 둔 불변 권한 목록. 호출마다 새 객체를 만들지 않음
+    public static List<GrantedAuthority> authoritiesOf(int mask) {
+        return Authorities.BY_MASK[mask & Authorities.ALL];
+    }
+
+    private static final class Authorities {
+        private static final int ALL = (1 << values().length) - 1;
+        private static final List<GrantedAuthority>[] BY_MASK = buildAuthorities();
+        private static final List<String>[] NAMES = buildNames();
+
+        @SuppressWarnings("unchecked")
+        private static List<GrantedAuthority>[] buildAuthorities() {
+            List<GrantedAuthority>[] table = new List[ALL + 1];
+            for (int mask = 0; mask <= ALL; mask++) {
+                List<GrantedAuthority> authorities = new ArrayList<>();
+                for (Role role : values()) {
+                    if ((mask & role.bit) != 0) {
+                        authorities.add(new SimpleGrantedAuthority(role.name()));
+                    }
+                }
+                table[mask] = List.copyOf(authorities);
+            }
+            return table;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static List<String>[] buildNames() {
+            List<String>[] table = new List[ALL + 1];
+            for (int mask = 0; mask <= ALL; mask++) {
+                table[mask] = BY_MASK[mask].stream().map(GrantedAuthority::getAuthority).toList();
+            }
+            return table;
+        }
+    }
+}
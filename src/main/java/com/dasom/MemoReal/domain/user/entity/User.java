@@ -1,41 +1,61 @@
 package com.dasom.MemoReal.domain.user.entity;
 
+import com.dasom.MemoReal.global.id.Tsid;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_email", columnNames = "email"),
+        @UniqueConstraint(name = "uk_user_username", columnNames = "username")
+})
+// 2차 캐시(ehcache.xml 의 user, user-natural-id). 엔티티를 통해 바뀌면 커밋 시 캐시도 함께 갱신됨
+// JPQL/네이티브 bulk update 는 region 전체를 비우므로 수정은 엔티티 메서드(changePassword 등)로 할 것
+// (로그인 재해싱의 조건부 수정은 UserRepositoryImpl.updatePasswordIfUnchanged 가 해당 엔트리만 지움)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
+@NaturalIdCache(region = "user-natural-id")
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class User implements UserDetails {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Tsid // IDENTITY 는 insert batch 를 막으므로 애플리케이션에서 시간순 ID 생성
     private Long id;
     private String username;
     private String password;
+    // 로그인 키. 이메일 -> id 매핑을 캐시해서 조회 쿼리 없이 엔티티 캐시로 바로 감
+    @NaturalId
     private String email;
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    @Builder.Default // 기본값 지정
-    private List<String> roles = new ArrayList<>();
+    // 권한은 별도 테이블 없이 Role 비트마스크로 저장 (조회 시 추가 쿼리 없음)
+    @Column(name = "role_mask", nullable = false)
+    private int roleMask;
+
+    // dirty checking 으로 update 되고 2차 캐시 엔트리도 커밋 시 갱신
+    public void changePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
+    public List<String> getRoles() {
+        return Role.namesOf(roleMask);
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return this.roles.stream()
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
+        return Role.authoritiesOf(roleMask);
     }
 
     @Override
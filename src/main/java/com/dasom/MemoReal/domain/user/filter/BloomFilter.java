@@ -0,0 +1,115 @@
+package com.dasom.MemoReal.domain.user.filter;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// 동시 접근 가능한 Bloom filter. false 면 확실히 없음, true 면 있을 수도 있음
+final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+    private final LongAdder insertions = new LongAdder();
+
+    private BloomFilter(long bitSize, int hashCount) {
+        this.words = new AtomicLongArray((int) ((bitSize + 63) >>> 6));
+        this.bitSize = (long) words.length() << 6;
+        this.hashCount = hashCount;
+    }
+
+    // bitBudget 비트 안에서 expectedInsertions 개를 넣었을 때 오탐률이 가장 낮은 해시 개수로 생성
+    static BloomFilter create(long bitBudget, long expectedInsertions) {
+        long bits = Math.max(64, bitBudget);
+        return new BloomFilter(bits, optimalHashCount(bits, expectedInsertions));
+    }
+
+    // bitBudget 비트로 insertions 개를 담도록 새로 만들었을 때의 예상 오탐률. 재구성으로 나아지는지 판단할 때 사용
+    static double bestFpp(long bitBudget, long insertions) {
+        long bits = Math.max(64, bitBudget);
+        return fpp(optimalHashCount(bits, insertions), insertions, bits);
+    }
+
+    private static int optimalHashCount(long bits, long insertions) {
+        long n = Math.max(1, insertions);
+        int k = (int) Math.round((double) bits / n * Math.log(2));
+        return Math.min(16, Math.max(1, k));
+    }
+
+    private static double fpp(int hashCount, long insertions, long bitSize) {
+        double exponent = -(double) hashCount * insertions / bitSize;
+        return Math.pow(1 - Math.exp(exponent), hashCount);
+    }
+
+    boolean mightContain(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            long index = ((hash1 + i * hash2) & Long.MAX_VALUE) % bitSize;
+            if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 새로 켠 비트가 없으면(이미 들어간 키를 동기화로 다시 넣은 경우 등) 삽입 수에 세지 않음
+    void put(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        boolean changed = false;
+        for (int i = 0; i < hashCount; i++) {
+            long index = ((hash1 + i * hash2) & Long.MAX_VALUE) % bitSize;
+            int wordIndex = (int) (index >>> 6);
+            long mask = 1L << index;
+            while (true) {
+                long word = words.get(wordIndex);
+                if ((word & mask) != 0) {
+                    break;
+                }
+                if (words.compareAndSet(wordIndex, word, word | mask)) {
+                    changed = true;
+                    break;
+                }
+            }
+        }
+        if (changed) {
+            insertions.increment();
+        }
+    }
+
+    // 현재까지 넣은 개수 기준 예상 오탐률 (1 - e^(-kn/m))^k
+    double expectedFpp() {
+        return fpp(hashCount, insertions.sum(), bitSize);
+    }
+
+    long bitSize() {
+        return bitSize;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    long insertions() {
+        return insertions.sum();
+    }
+
+    // FNV-1a 64bit + murmur3 finalizer
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb93fe53ae63bL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,318 @@
+package com.dasom.MemoReal.domain.user.filter;
+
+import com.dasom.MemoReal.domain.user.dto.UserKeyDTO;
+import com.dasom.MemoReal.domain.user.repository.UserRepository;
+import com.dasom.MemoReal.global.id.TsidFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+// 가입된 email / username 에 대한 메모리 Bloom filter
+// "없음" 이면 DB 조회 없이 바로 거절하고, "있을 수도 있음" 이면 기존대로 UserRepository 로 확인
+// 시작 시 User 테이블을 스트리밍해서 만들고, 가입 시 갱신, 주기적으로 또는 오탐률이 목표를 벗어나면 다시 만듦
+// 필터는 노드마다 따로 있으므로 다른 노드의 가입은 sync-interval-millis 마다 최근 가입자(ID 범위)를 읽어서 반영
+// 동기화가 max-staleness-millis 넘게 실패하면 "없음" 을 믿지 않고 모두 DB 로 확인
+// 다른 노드에서 막 가입한 사용자는 다음 동기화(최대 sync-interval-millis + replica 지연)까지 없는 사용자로 보일 수 있음
+@Slf4j
+@Component
+public class UserExistenceFilter implements MeterBinder {
+
+    // 오탐률을 판단하기 위한 최소 표본 수
+    private static final long MIN_DRIFT_SAMPLES = 1000;
+    private static final int SYNC_BATCH_SIZE = 1000;
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final long memoryBudgetBytes;
+    private final double targetFpp;
+    private final long syncOverlapMillis;
+    private final long maxStalenessMillis;
+    private final long minRebuildIntervalMillis;
+
+    private volatile BloomFilter emails;
+    private volatile BloomFilter usernames;
+    private volatile boolean ready;
+    // 이 시각 이전에 커밋된 가입은 모두 반영됨 (마지막으로 성공한 재구성 / 동기화의 시작 시각)
+    private volatile long syncedUntilMillis;
+    // 이 시각 전에는 오탐률이 높아도 다시 재구성을 판단하지 않음
+    private volatile long nextDriftCheckMillis;
+    // 지금 키 수로 메모리 예산 안에서 새로 만들었을 때의 예상 오탐률 (사용자 수가 예산을 넘었는지 보는 지표)
+    private volatile double achievableFpp;
+    private final LongAdder skippedRebuilds = new LongAdder();
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final Queue<String[]> pendingAdds = new ConcurrentLinkedQueue<>();
+
+    private final Stats emailStats = new Stats();
+    private final Stats usernameStats = new Stats();
+
+    public UserExistenceFilter(UserRepository userRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${memoreal.user-filter.enabled:true}") boolean enabled,
+                               @Value("${memoreal.user-filter.memory-budget-bytes:8388608}") long memoryBudgetBytes,
+                               @Value("${memoreal.user-filter.target-fpp:0.01}") double targetFpp,
+                               @Value("${memoreal.user-filter.sync-overlap-millis:60000}") long syncOverlapMillis,
+                               @Value("${memoreal.user-filter.max-staleness-millis:10000}") long maxStalenessMillis,
+                               @Value("${memoreal.user-filter.min-rebuild-interval-millis:60000}") long minRebuildIntervalMillis) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        this.targetFpp = targetFpp;
+        this.syncOverlapMillis = syncOverlapMillis;
+        this.maxStalenessMillis = maxStalenessMillis;
+        this.minRebuildIntervalMillis = minRebuildIntervalMillis;
+    }
+
+    public boolean mightContainEmail(String email) {
+        return mightContain(emails, normalize(email), emailStats);
+    }
+
+    public boolean mightContainUsername(String username) {
+        return mightContain(usernames, normalize(username), usernameStats);
+    }
+
+    // 필터는 있을 수도 있다고 했지만 DB 에 없었던 경우 호출
+    public void recordEmailFalsePositive() {
+        emailStats.falsePositives.increment();
+        rebuildIfDrifted();
+    }
+
+    public void recordUsernameFalsePositive() {
+        usernameStats.falsePositives.increment();
+        rebuildIfDrifted();
+    }
+
+    // 가입 직후 호출. 재구성 중이면 새 필터에도 반영되도록 따로 모아둠
+    public void add(String email, String username) {
+        String normalizedEmail = normalize(email);
+        String normalizedUsername = normalize(username);
+        BloomFilter currentEmails = emails;
+        BloomFilter currentUsernames = usernames;
+        if (currentEmails != null) {
+            currentEmails.put(normalizedEmail);
+            currentUsernames.put(normalizedUsername);
+        }
+        if (rebuilding.get()) {
+            pendingAdds.add(new String[]{normalizedEmail, normalizedUsername});
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${memoreal.user-filter.rebuild-interval-millis:3600000}",
+            initialDelayString = "${memoreal.user-filter.rebuild-interval-millis:3600000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    // 다른 노드에서 가입한 사용자 반영
+    // 노드 간 시계 차이, 커밋 지연, replica 지연을 감안해서 마지막 동기화보다 sync-overlap-millis 앞부터 다시 읽음
+    // (이미 들어간 키를 다시 넣어도 결과는 같음)
+    @Scheduled(fixedDelayString = "${memoreal.user-filter.sync-interval-millis:1000}")
+    public void syncRecentJoins() {
+        if (!enabled || !ready || rebuilding.get()) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        long afterId = TsidFactory.minIdAt(syncedUntilMillis - syncOverlapMillis) - 1;
+        try {
+            while (true) {
+                long from = afterId;
+                List<UserKeyDTO> keys = readOnlyTransaction.execute(
+                        status -> userRepository.findKeysAfter(from, Limit.of(SYNC_BATCH_SIZE)));
+                for (UserKeyDTO key : keys) {
+                    add(key.getEmail(), key.getUsername());
+                }
+                if (keys.size() < SYNC_BATCH_SIZE) {
+                    break;
+                }
+                afterId = keys.get(keys.size() - 1).getId();
+            }
+            syncedUntilMillis = startedAt;
+        } catch (RuntimeException e) {
+            log.warn("Failed to sync user existence filter", e);
+        }
+    }
+
+    public void rebuild() {
+        if (!enabled || !rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long startedAt = System.currentTimeMillis();
+            pendingAdds.clear();
+            long expected = Math.max(userRepository.count(), 1) * 2;
+            long bitsPerFilter = memoryBudgetBytes * 8 / 2;
+            BloomFilter newEmails = BloomFilter.create(bitsPerFilter, expected);
+            BloomFilter newUsernames = BloomFilter.create(bitsPerFilter, expected);
+
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<UserKeyDTO> keys = userRepository.streamAllKeys()) {
+                    keys.forEach(key -> {
+                        newEmails.put(normalize(key.getEmail()));
+                        newUsernames.put(normalize(key.getUsername()));
+                    });
+                }
+            });
+
+            emails = newEmails;
+            usernames = newUsernames;
+            // 교체 전에 들어온 가입 정보를 새 필터에 반영
+            String[] pending;
+            while ((pending = pendingAdds.poll()) != null) {
+                newEmails.put(pending[0]);
+                newUsernames.put(pending[1]);
+            }
+            emailStats.reset();
+            usernameStats.reset();
+            syncedUntilMillis = startedAt;
+            nextDriftCheckMillis = System.currentTimeMillis() + minRebuildIntervalMillis;
+            achievableFpp = Math.max(newEmails.expectedFpp(), newUsernames.expectedFpp());
+            ready = true;
+
+            if (newEmails.expectedFpp() > targetFpp) {
+                log.warn("User existence filter exceeds target fpp {} within {} bytes (expected {})",
+                        targetFpp, memoryBudgetBytes, newEmails.expectedFpp());
+            }
+            log.info("User existence filter built: {} users, {} bits, {} hashes",
+                    newEmails.insertions(), newEmails.bitSize(), newEmails.hashCount());
+        } catch (RuntimeException e) {
+            log.error("Failed to build user existence filter", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindStats(registry, "email", emailStats);
+        bindStats(registry, "username", usernameStats);
+        Gauge.builder("user.filter.fpp.expected", this, f -> f.emails == null ? 0 : f.emails.expectedFpp())
+                .tag("filter", "email")
+                .register(registry);
+        Gauge.builder("user.filter.fpp.expected", this, f -> f.usernames == null ? 0 : f.usernames.expectedFpp())
+                .tag("filter", "username")
+                .register(registry);
+        Gauge.builder("user.filter.fpp.achievable", this, f -> f.achievableFpp)
+                .description("Expected fpp of a freshly rebuilt filter within the memory budget")
+                .register(registry);
+        FunctionCounter.builder("user.filter.rebuilds.skipped", skippedRebuilds, LongAdder::sum)
+                .description("Drift rebuilds skipped because a rebuild would not lower the fpp")
+                .register(registry);
+    }
+
+    private void bindStats(MeterRegistry registry, String filter, Stats stats) {
+        FunctionCounter.builder("user.filter.lookups", stats.negatives, LongAdder::sum)
+                .tag("filter", filter)
+                .tag("result", "negative")
+                .register(registry);
+        FunctionCounter.builder("user.filter.lookups", stats.positives, LongAdder::sum)
+                .tag("filter", filter)
+                .tag("result", "positive")
+                .register(registry);
+        FunctionCounter.builder("user.filter.false.positives", stats.falsePositives, LongAdder::sum)
+                .tag("filter", filter)
+                .register(registry);
+        Gauge.builder("user.filter.fpp.observed", stats, Stats::observedFpp)
+                .tag("filter", filter)
+                .register(registry);
+    }
+
+    private boolean mightContain(BloomFilter filter, String value, Stats stats) {
+        if (!enabled || !ready || System.currentTimeMillis() - syncedUntilMillis > maxStalenessMillis) {
+            return true;
+        }
+        if (filter.mightContain(value)) {
+            stats.positives.increment();
+            return true;
+        }
+        stats.negatives.increment();
+        return false;
+    }
+
+    // 관측 오탐률이나 삽입 수 기준 예상 오탐률이 목표의 2배를 넘으면 비동기로 재구성
+    // 단 지금 키 수로 같은 메모리 예산 안에서 새로 만들어도 절반 이하로 내려가지 않으면(사용자 수가 예산을 넘음)
+    // 전체 테이블을 다시 읽어도 소용없으므로 건너뛰고 경고 + user.filter.fpp.achievable 로 알림
+    // 어느 쪽이든 min-rebuild-interval-millis 동안은 다시 판단하지 않음
+    private void rebuildIfDrifted() {
+        long now = System.currentTimeMillis();
+        if (!ready || rebuilding.get() || now < nextDriftCheckMillis) {
+            return;
+        }
+        double current = Math.max(currentFpp(emails, emailStats), currentFpp(usernames, usernameStats));
+        if (current <= targetFpp * 2) {
+            return;
+        }
+        nextDriftCheckMillis = now + minRebuildIntervalMillis;
+        long bitsPerFilter = memoryBudgetBytes * 8 / 2;
+        double achievable = Math.max(BloomFilter.bestFpp(bitsPerFilter, emails.insertions()),
+                BloomFilter.bestFpp(bitsPerFilter, usernames.insertions()));
+        achievableFpp = achievable;
+        if (achievable * 2 > current) {
+            skippedRebuilds.increment();
+            log.warn("User existence filter fpp {} is over target {} but a rebuild within {} bytes would only reach {}; " +
+                    "raise memoreal.user-filter.memory-budget-bytes", current, targetFpp, memoryBudgetBytes, achievable);
+            return;
+        }
+        Thread.ofVirtual().name("user-filter-rebuild").start(this::rebuild);
+    }
+
+    private double currentFpp(BloomFilter filter, Stats stats) {
+        return stats.hasSamples() ? Math.max(stats.observedFpp(), filter.expectedFpp()) : filter.expectedFpp();
+    }
+
+    // MySQL 기본 collation 은 대소문자를 구분하지 않으므로 필터도 소문자로 통일
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static class Stats {
+        final LongAdder positives = new LongAdder();
+        final LongAdder negatives = new LongAdder();
+        final LongAdder falsePositives = new LongAdder();
+        // 마지막 재구성 시점의 값. 오탐률은 재구성 이후 구간으로만 계산
+        volatile long baselineNegatives;
+        volatile long baselineFalsePositives;
+
+        // 실제로 없던 키 중 필터가 있다고 답한 비율
+        double observedFpp() {
+            long fp = falsePositives.sum() - baselineFalsePositives;
+            long absent = fp + negatives.sum() - baselineNegatives;
+            return absent <= 0 ? 0 : (double) fp / absent;
+        }
+
+        boolean hasSamples() {
+            long absent = falsePositives.sum() - baselineFalsePositives + negatives.sum() - baselineNegatives;
+            return absent >= MIN_DRIFT_SAMPLES;
+        }
+
+        void reset() {
+            baselineNegatives = negatives.sum();
+            baselineFalsePositives = falsePositives.sum();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.dasom.MemoReal.domain.user.migration;
+
+import com.dasom.MemoReal.domain.user.entity.Role;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// 기존 user_roles(@ElementCollection) 테이블의 권한을 user.role_mask 로 옮김 (이전의 RoleMaskMigration)
+// user_roles 가 있는 DB 에서만 동작하고, 옮긴 뒤에는 user_roles_migrated 로 이름을 바꿔서 데이터는 보존
+// Flyway 가 Spring 빈으로 등록된 JavaMigration 을 직접 받아가므로 classpath 스캔 없이 실행됨
+//
+// baseline(V1) 으로 표시된 기존 DB 는 V1 을 실행하지 않았으므로 V1 과 같은 모양이 되도록 먼저 맞춤
+// (role_mask 컬럼, 중복 가입 판단에 쓰는 uk_user_email / uk_user_username). 이미 있으면 건너뜀
+@Slf4j
+@Component
+public class V2__MigrateUserRolesToRoleMask extends BaseJavaMigration {
+
+    private static final String USER_TABLE = "user";
+    private static final String LEGACY_TABLE = "user_roles";
+
+    // MySQL 의 | 는 H2 에 없으므로 비트가 아직 없을 때만 더함
+    private static final String MIGRATE_ROLE_SQL =
+            "UPDATE user SET role_mask = role_mask + ? " +
+                    "WHERE MOD(FLOOR(role_mask / ?), 2) = 0 " +
+                    "AND EXISTS (SELECT 1 FROM user_roles r WHERE r.user_id = user.id AND r.roles = ?)";
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        ensureBaselineSchema(connection);
+        if (!tableExists(connection, LEGACY_TABLE)) {
+            return;
+        }
+        try (PreparedStatement update = connection.prepareStatement(MIGRATE_ROLE_SQL)) {
+            for (Role role : Role.values()) {
+                update.setInt(1, role.getBit());
+                update.setInt(2, role.getBit());
+                update.setString(3, role.name());
+                log.info("Migrated role {} to role_mask for {} users", role, update.executeUpdate());
+            }
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE user_roles RENAME TO user_roles_migrated");
+        }
+    }
+
+    private static void ensureBaselineSchema(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            if (!columnExists(connection, USER_TABLE, "role_mask")) {
+                log.info("Adding user.role_mask to a baselined schema");
+                statement.execute("ALTER TABLE user ADD COLUMN role_mask INT DEFAULT 0 NOT NULL");
+            }
+            for (String column : new String[]{"email", "username"}) {
+                String constraint = "uk_user_" + column;
+                if (uniqueIndexExists(connection, USER_TABLE, constraint)) {
+                    continue;
+                }
+                // 중복 확인 후 저장하던 시절에 생긴 중복이 있으면 제약을 걸 수 없으므로 원인을 알려주고 중단
+                try (ResultSet duplicates = statement.executeQuery("SELECT COUNT(*) FROM (SELECT " + column +
+                        " FROM user WHERE " + column + " IS NOT NULL GROUP BY " + column + " HAVING COUNT(*) > 1) d")) {
+                    duplicates.next();
+                    if (duplicates.getLong(1) > 0) {
+                        throw new IllegalStateException(duplicates.getLong(1) + " duplicate user." + column +
+                                " values must be resolved before adding " + constraint);
+                    }
+                }
+                log.info("Adding {} to a baselined schema", constraint);
+                statement.execute("ALTER TABLE user ADD CONSTRAINT " + constraint + " UNIQUE (" + column + ")");
+            }
+        }
+    }
+
+    private static boolean tableExists(Connection connection, String table) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        for (String name : new String[]{table, table.toUpperCase()}) {
+            try (ResultSet tables = metaData.getTables(connection.getCatalog(), null, name, new String[]{"TABLE"})) {
+                if (tables.next()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean columnExists(Connection connection, String table, String column) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        for (String name : new String[]{table, table.toUpperCase()}) {
+            try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, name, null)) {
+                while (columns.next()) {
+                    if (column.equalsIgnoreCase(columns.getString("COLUMN_NAME"))) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    // MySQL 은 제약 이름 그대로, H2 는 "<제약 이름>_INDEX_n" 으로 인덱스를 만듦
+    private static boolean uniqueIndexExists(Connection connection, String table, String constraint) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        String prefix = constraint.toUpperCase();
+        for (String name : new String[]{table, table.toUpperCase()}) {
+            try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(), null, name, true, false)) {
+                while (indexes.next()) {
+                    String index = indexes.getString("INDEX_NAME");
+                    if (index != null && index.toUpperCase().startsWith(prefix)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -1,13 +1,27 @@
 package com.dasom.MemoReal.domain.user.repository;
 
+import com.dasom.MemoReal.domain.user.dto.UserKeyDTO;
 import com.dasom.MemoReal.domain.user.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+// findByEmail 은 UserRepositoryCustom (natural id + 2차 캐시)
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
     Optional<User> findByUsername(String username);
-    Optional<User> findByEmail(String email);
 
     boolean existsByUsername(String username);
+
+    // 트랜잭션 안에서 사용하고 다 읽은 뒤 반드시 close
+    @Query("select u.id as id, u.email as email, u.username as username from User u")
+    Stream<UserKeyDTO> streamAllKeys();
+
+    // ID(TSID, 시간순) 기준으로 afterId 이후에 가입한 사용자. PK 범위 조회
+    @Query("select u.id as id, u.email as email, u.username as username from User u where u.id > :afterId order by u.id")
+    List<UserKeyDTO> findKeysAfter(@Param("afterId") long afterId, Limit limit);
 }
@@ -0,0 +1,13 @@
+package com.dasom.MemoReal.domain.user.repository;
+
+import com.dasom.MemoReal.domain.user.entity.User;
+
+import java.util.Optional;
+
+// 파생 쿼리 대신 natural id 로 찾아야 2차 캐시를 타는 조회, 캐시 region 전체를 비우지 않는 조건부 수정
+public interface UserRepositoryCustom {
+    Optional<User> findByEmail(String email);
+
+    // 비밀번호가 아직 oldPassword 일 때만 newPassword 로 바꾸고 바뀐 행 수를 반환
+    int updatePasswordIfUnchanged(Long id, String oldPassword, String newPassword);
+}
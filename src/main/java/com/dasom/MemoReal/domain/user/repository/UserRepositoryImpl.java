@@ -0,0 +1,55 @@
+package com.dasom.MemoReal.domain.user.repository;
+
+import com.dasom.MemoReal.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.util.Optional;
+
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    private static final String UPDATE_PASSWORD_SQL = "UPDATE user SET password = ? WHERE id = ? AND password = ?";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 이메일 -> id 는 natural id 캐시, id -> User 는 엔티티 캐시에서 찾음. 둘 다 적중하면 쿼리 없음
+    // readOnly 라 LazyConnectionDataSourceProxy 아래에서는 캐시 적중 시 커넥션도 꺼내지 않음
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+
+    // 조회 -> 비교 -> 수정이 아니라 UPDATE ... WHERE password = old 한 번으로 처리해서 동시에 바뀐 비밀번호를 덮어쓰지 않음
+    // JPQL/네이티브 bulk update 는 user region 전체를 비우므로 세션의 JDBC 커넥션으로 직접 실행하고,
+    // 커밋 후 이 사용자의 엔티티 캐시 엔트리만 지움 (email 은 그대로라 natural id 캐시는 그대로 유효)
+    @Override
+    @Transactional
+    public int updatePasswordIfUnchanged(Long id, String oldPassword, String newPassword) {
+        int updated = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(UPDATE_PASSWORD_SQL)) {
+                statement.setString(1, newPassword);
+                statement.setLong(2, id);
+                statement.setString(3, oldPassword);
+                return statement.executeUpdate();
+            }
+        });
+        if (updated > 0) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entityManager.getEntityManagerFactory().getCache().evict(User.class, id);
+                }
+            });
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,240 @@
+package com.dasom.MemoReal.domain.user.service;
+
+import com.dasom.MemoReal.domain.user.dto.BulkJoinRecordDTO;
+import com.dasom.MemoReal.domain.user.dto.BulkJoinResultDTO;
+import com.dasom.MemoReal.domain.user.dto.JoinDTO;
+import com.dasom.MemoReal.domain.user.entity.Role;
+import com.dasom.MemoReal.domain.user.filter.UserExistenceFilter;
+import com.dasom.MemoReal.global.exception.CustomException;
+import com.dasom.MemoReal.global.exception.ErrorCode;
+import com.dasom.MemoReal.global.exception.TooManyRequestsException;
+import com.dasom.MemoReal.global.id.TsidFactory;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 파트너 시스템의 대량 가입 처리
+// 요청 본문(JoinDTO 배열)을 스트리밍으로 읽으면서 batchSize 단위로
+// 비밀번호를 전용 해싱 풀에서 병렬 해싱 -> JDBC batch insert -> 레코드별 결과 기록
+// 중복은 DB unique 제약(uk_user_email, uk_user_username)으로 판단
+// 전용 풀은 코어 수보다 작게 두어 대량 가입이 해싱 permit 을 다 차지해 로그인 / 가입이 429 를 받지 않게 함
+@Slf4j
+@Service
+public class UserBulkService implements DisposableBean {
+
+    // JDBC 로 바로 넣으므로 Hibernate 2차 캐시를 거치지 않음. 새 행만 추가되고 중복은 no-op 이라 무효화할 캐시 엔트리도 없음
+    private static final String INSERT_SQL =
+            "INSERT INTO user (id, email, username, password, role_mask) VALUES (?, ?, ?, ?, ?) " +
+                    "ON DUPLICATE KEY UPDATE id = id";
+    private static final String SELECT_INSERTED_SQL = "SELECT id FROM user WHERE id IN (:ids)";
+    private static final int MAX_HASH_ATTEMPTS = 5;
+
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final UserExistenceFilter userExistenceFilter;
+    private final int batchSize;
+    private final ThreadPoolExecutor hashExecutor;
+
+    public UserBulkService(ObjectMapper objectMapper,
+                           JdbcTemplate jdbcTemplate,
+                           NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           PasswordEncoder passwordEncoder,
+                           UserExistenceFilter userExistenceFilter,
+                           @Value("${memoreal.bulk-join.batch-size:500}") int batchSize,
+                           @Value("${memoreal.bulk-join.hash-threads:0}") int hashThreads,
+                           @Value("${memoreal.bulk-join.hash-queue-capacity:1000}") int hashQueueCapacity) {
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        this.userExistenceFilter = userExistenceFilter;
+        this.batchSize = batchSize;
+        // 0 이면 코어 수의 1/4 (최소 1)
+        int threads = hashThreads > 0 ? hashThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 4);
+        this.hashExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(hashQueueCapacity),
+                Thread.ofPlatform().name("bulk-hash-", 1).daemon().factory());
+    }
+
+    public BulkJoinResultDTO join(InputStream body) {
+        List<BulkJoinRecordDTO> results = new ArrayList<>();
+        List<JoinDTO> chunk = new ArrayList<>(batchSize);
+        int index = 0;
+        try (MappingIterator<JoinDTO> records = objectMapper.readerFor(JoinDTO.class).readValues(body)) {
+            while (records.hasNextValue()) {
+                chunk.add(records.nextValue());
+                if (chunk.size() == batchSize) {
+                    processChunk(chunk, index, results);
+                    index += chunk.size();
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "대량 가입 요청 본문을 읽을 수 없습니다: " + e.getMessage());
+        }
+        if (!chunk.isEmpty()) {
+            processChunk(chunk, index, results);
+        }
+
+        int created = (int) results.stream()
+                .filter(result -> result.getStatus() == BulkJoinRecordDTO.Status.CREATED)
+                .count();
+        return BulkJoinResultDTO.builder()
+                .total(results.size())
+                .created(created)
+                .results(results)
+                .build();
+    }
+
+    private void processChunk(List<JoinDTO> chunk, int offset, List<BulkJoinRecordDTO> results) {
+        // 1. 비밀번호 병렬 해싱 (전용 풀). 실패한 레코드는 null
+        String[] hashes = hashAll(chunk, offset);
+
+        // 2. 해싱이 끝난 레코드만 insert 대상으로 모음
+        BulkJoinRecordDTO[] chunkResults = new BulkJoinRecordDTO[chunk.size()];
+        List<Object[]> rows = new ArrayList<>(chunk.size());
+        List<Long> ids = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            JoinDTO record = chunk.get(i);
+            if (!isValid(record)) {
+                chunkResults[i] = result(offset + i, record, BulkJoinRecordDTO.Status.INVALID, null);
+                continue;
+            }
+            String encodedPassword = hashes[i];
+            if (encodedPassword == null) {
+                chunkResults[i] = result(offset + i, record, BulkJoinRecordDTO.Status.FAILED, null);
+                continue;
+            }
+            long id = TsidFactory.next();
+            ids.add(id);
+            rows.add(new Object[]{id, record.getEmail(), record.getUsername(), encodedPassword, Role.USER.getBit()});
+            chunkResults[i] = result(offset + i, record, BulkJoinRecordDTO.Status.CREATED, id);
+        }
+
+        // 3. 한 트랜잭션에서 batch insert 후 실제로 들어간 ID 확인 (중복은 무시되어 빠짐)
+        Set<Long> inserted = rows.isEmpty() ? Set.of() : transactionTemplate.execute(status -> {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+            return new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                    SELECT_INSERTED_SQL, Map.of("ids", ids), Long.class));
+        });
+
+        for (int i = 0; i < chunkResults.length; i++) {
+            BulkJoinRecordDTO result = chunkResults[i];
+            if (result.getStatus() == BulkJoinRecordDTO.Status.CREATED) {
+                if (inserted.contains(result.getUserId())) {
+                    userExistenceFilter.add(chunk.get(i).getEmail(), chunk.get(i).getUsername());
+                } else {
+                    result = result(result.getIndex(), chunk.get(i), BulkJoinRecordDTO.Status.DUPLICATE, null);
+                }
+            }
+            results.add(result);
+        }
+    }
+
+    // 풀 대기열이 꽉 찼거나(RejectedExecutionException) 해싱 bulkhead 에 막힌(TooManyRequestsException) 레코드는
+    // 이 요청 스레드에서 잠시 쉬었다가 다시 넣음. 풀 스레드는 해싱만 하고 기다리지 않음
+    // MAX_HASH_ATTEMPTS 번 안에 끝나지 않으면 그 레코드만 FAILED (insert 전이라 커밋된 것 없음)
+    private String[] hashAll(List<JoinDTO> chunk, int offset) {
+        String[] hashes = new String[chunk.size()];
+        List<Integer> pending = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            if (isValid(chunk.get(i))) {
+                pending.add(i);
+            }
+        }
+        for (int attempt = 1; !pending.isEmpty(); attempt++) {
+            List<Integer> retry = new ArrayList<>();
+            List<Integer> submitted = new ArrayList<>(pending.size());
+            List<CompletableFuture<String>> futures = new ArrayList<>(pending.size());
+            for (int i : pending) {
+                String rawPassword = chunk.get(i).getPassword();
+                try {
+                    futures.add(CompletableFuture.supplyAsync(() -> passwordEncoder.encode(rawPassword), hashExecutor));
+                    submitted.add(i);
+                } catch (RejectedExecutionException e) {
+                    retry.add(i);
+                }
+            }
+            for (int j = 0; j < futures.size(); j++) {
+                int i = submitted.get(j);
+                try {
+                    hashes[i] = futures.get(j).join();
+                } catch (CompletionException e) {
+                    if (e.getCause() instanceof TooManyRequestsException) {
+                        retry.add(i);
+                    } else {
+                        log.warn("Bulk join hashing failed for record {}", offset + i, e.getCause());
+                    }
+                }
+            }
+            if (retry.isEmpty()) {
+                break;
+            }
+            if (attempt == MAX_HASH_ATTEMPTS || !backOff(attempt)) {
+                log.warn("Bulk join gave up hashing {} records after {} attempts", retry.size(), attempt);
+                break;
+            }
+            pending = retry;
+        }
+        return hashes;
+    }
+
+    private static boolean backOff(int attempt) {
+        try {
+            Thread.sleep(50L * attempt);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static boolean isValid(JoinDTO record) {
+        return record != null
+                && StringUtils.hasText(record.getEmail())
+                && StringUtils.hasText(record.getUsername())
+                && StringUtils.hasText(record.getPassword());
+    }
+
+    private static BulkJoinRecordDTO result(int index, JoinDTO record, BulkJoinRecordDTO.Status status, Long userId) {
+        return BulkJoinRecordDTO.builder()
+                .index(index)
+                .email(record == null ? null : record.getEmail())
+                .status(status)
+                .userId(userId)
+                .build();
+    }
+
+    @Override
+    public void destroy() {
+        hashExecutor.shutdown();
+    }
+}
@@ -2,22 +2,26 @@ package com.dasom.MemoReal.domain.user.service;
 
 import com.dasom.MemoReal.domain.user.dto.JoinDTO;
 import com.dasom.MemoReal.domain.user.dto.UserDTO;
+import com.dasom.MemoReal.domain.user.entity.Role;
 import com.dasom.MemoReal.domain.user.entity.User;
+import com.dasom.MemoReal.domain.user.filter.UserExistenceFilter;
 import com.dasom.MemoReal.domain.user.repository.UserRepository;
+import com.dasom.MemoReal.global.datasource.ReadYourWrites;
+import com.dasom.MemoReal.global.exception.BusinessException;
+import com.dasom.MemoReal.global.exception.ErrorCode;
 import com.dasom.MemoReal.global.jwt.dto.JwtTokenDTO;
 import com.dasom.MemoReal.global.jwt.provider.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.PostMapping;
 
-import java.util.ArrayList;
-import java.util.List;
-
 @RequiredArgsConstructor
 @Service
 @Transactional(readOnly=true)
@@ -26,8 +30,12 @@ public class UserService {
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
     private final JwtTokenProvider jwtTokenProvider;
     private final PasswordEncoder passwordEncoder;
+    private final UserExistenceFilter userExistenceFilter;
+    private final ReadYourWrites readYourWrites;
 
-    @Transactional
+    // 트랜잭션 없이 실행. 사용자 조회는 repository 호출 하나로 끝나고 커넥션은 바로 반납되므로
+    // 이어지는 BCrypt 비교(~100ms) 동안 커넥션을 붙잡지 않음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public JwtTokenDTO login(String email, String password) {
         // 1. username + password 를 기반으로 Authentication 객체 생성
         // 이때 authentication 은 인증 여부를 확인하는 authenticated 값이 false
@@ -35,22 +43,57 @@ public class UserService {
 
         // 2. 실제 검증. authenticate() 메서드를 통해 요청된 Member 에 대한 검증 진행
         // authenticate 메서드가 실행될 때 CustomUserDetailsService 에서 만든 loadUserByUsername 메서드 실행
-        Authentication authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
+        // 사용자 조회는 요청 스레드에서 하고, BCrypt 비교만 PasswordEncoder(OffloadingPasswordEncoder)가 CPU 풀로 넘김
+        // 가입 직후 로그인이면 replica 에 아직 복제되지 않았을 수 있으므로 이메일 기준으로 read-your-writes 적용
+        Authentication authentication = readYourWrites.callAs(email,
+                () -> authenticationManagerBuilder.getObject().authenticate(authenticationToken));
 
         // 3. 인증 정보를 기반으로 JWT 토큰 생성 + return
         return jwtTokenProvider.generateToken(authentication);
     }
 
-    @Transactional
+    // 리프레시 토큰만으로 토큰 재발급. DB 커넥션도 쓰지 않으므로 트랜잭션 없이 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public JwtTokenDTO reissue(String refreshToken) {
+        return jwtTokenProvider.reissue(refreshToken);
+    }
+
+    // 로그아웃. 토큰 폐기만 하므로 트랜잭션 없이 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void logout(String accessToken, String refreshToken) {
+        jwtTokenProvider.revoke(accessToken, refreshToken);
+    }
+
+    // 중복 확인 -> 해싱 -> 저장을 하나의 트랜잭션으로 묶지 않음. 해싱 동안에는 커넥션 없이 실행되고
+    // DB 작업은 각각의 repository 호출(짧은 트랜잭션)에서만 커넥션을 사용. 중복 경합은 unique 제약이 막음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserDTO join(JoinDTO signUpDto) {
-        if (userRepository.existsByUsername(signUpDto.getUsername())) {
-            throw new IllegalArgumentException("이미 사용 중인 사용자 이름입니다.");
+        // 필터에 없는 사용자 이름이면 중복 확인 쿼리 생략
+        if (userExistenceFilter.mightContainUsername(signUpDto.getUsername())) {
+            if (userRepository.existsByUsername(signUpDto.getUsername())) {
+                throw new BusinessException(ErrorCode.DUPLICATE_USERNAME);
+            }
+            userExistenceFilter.recordUsernameFalsePositive();
         }
-        // Password 암호화
+        // Password 암호화 (가상 스레드 모드에서는 encoder 가 CPU 풀에서 해싱)
         String encodedPassword = passwordEncoder.encode(signUpDto.getPassword());
-        List<String> roles = new ArrayList<>();
-        roles.add("USER");  // USER 권한 부여
-        return UserDTO.toDto(userRepository.save(signUpDto.toEntity(encodedPassword, roles)));
+        // USER 권한 부여
+        // 중복 확인과 저장 사이의 경합은 DB unique 제약으로 막고, 위반 시 중복 에러로 변환
+        User user;
+        try {
+            // 커밋되면 이 이메일의 다음 읽기는 잠시 primary 로 감
+            user = readYourWrites.callAs(signUpDto.getEmail(),
+                    () -> userRepository.saveAndFlush(signUpDto.toEntity(encodedPassword, Role.USER.getBit())));
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException(duplicateErrorCode(e));
+        }
+        userExistenceFilter.add(user.getEmail(), user.getUsername());
+        return UserDTO.toDto(user);
+    }
+
+    private static ErrorCode duplicateErrorCode(DataIntegrityViolationException e) {
+        String message = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase();
+        return message.contains("uk_user_email") ? ErrorCode.DUPLICATE_EMAIL : ErrorCode.DUPLICATE_USERNAME;
     }
 
     @PostMapping("/test")
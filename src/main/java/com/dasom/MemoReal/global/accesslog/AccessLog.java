@@ -0,0 +1,124 @@
+package com.dasom.MemoReal.global.accesslog;
+
+import com.dasom.MemoReal.global.accesslog.AccessLogProperties.FullPolicy;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 요청별 접근 로그. 요청 스레드는 링 버퍼 슬롯에 값만 복사하고 (락, 할당, I/O 없음) 파일 쓰기는 writer 스레드가 함
+@Slf4j
+@Component
+@EnableConfigurationProperties(AccessLogProperties.class)
+public class AccessLog implements SmartLifecycle, MeterBinder {
+
+    private final boolean enabled;
+    private final long blockNanos;
+    private final AccessLogRingBuffer ring;
+    private final AccessLogWriter writer;
+    private final LongAdder dropped = new LongAdder();
+    private Thread writerThread;
+
+    public AccessLog(AccessLogProperties properties) {
+        this.enabled = properties.enabled();
+        this.blockNanos = properties.whenFull() == FullPolicy.BLOCK
+                ? TimeUnit.MILLISECONDS.toNanos(properties.blockTimeoutMillis())
+                : 0;
+        this.ring = new AccessLogRingBuffer(properties.bufferSize());
+        this.writer = new AccessLogWriter(ring, new RollingFile(Path.of(properties.path()),
+                properties.maxFileSizeBytes(), properties.maxHistory()), properties.batchSize());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 요청이 끝날 때 AccessLogFilter 가 호출
+    void record(String method, String route, int status, RequestTimings timings, long endNanos) {
+        long sequence = ring.claim(blockNanos);
+        if (sequence < 0) {
+            dropped.increment();
+            return;
+        }
+        AccessLogEvent event = ring.slot(sequence);
+        event.timestampMillis = System.currentTimeMillis();
+        event.method = method;
+        event.route = route;
+        event.status = status;
+        event.authenticated = timings.authenticated;
+        event.principalId = timings.principalId;
+        event.errorCode = timings.errorCode;
+        event.totalNanos = endNanos - timings.startNanos;
+        event.jwtNanos = timings.jwtNanos;
+        event.hashingNanos = timings.hashingNanos;
+        event.dbNanos = timings.dbNanos;
+        ring.publish(sequence);
+    }
+
+    AccessLogRingBuffer ring() {
+        return ring;
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || writerThread != null) {
+            return;
+        }
+        writerThread = Thread.ofPlatform().name("access-log-writer").daemon().start(writer);
+        log.info("Access log enabled ({} slots)", ring.capacity());
+    }
+
+    @Override
+    public void stop() {
+        if (writerThread == null) {
+            return;
+        }
+        writer.stop();
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writerThread = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return writerThread != null;
+    }
+
+    // 웹 서버보다 늦게 멈춰서 마지막 요청들까지 기록
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 2048;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("accesslog.events", writer, AccessLogWriter::getWrittenCount)
+                .tag("result", "written")
+                .register(registry);
+        FunctionCounter.builder("accesslog.events", dropped, LongAdder::sum)
+                .tag("result", "dropped")
+                .description("Access log events dropped because the ring buffer was full")
+                .register(registry);
+        FunctionCounter.builder("accesslog.events", writer, AccessLogWriter::getFailedCount)
+                .tag("result", "write-failed")
+                .register(registry);
+        Gauge.builder("accesslog.buffer.used", ring, AccessLogRingBuffer::used)
+                .register(registry);
+        writer.getErrorLog().register(registry, "write-failed");
+    }
+}
@@ -0,0 +1,25 @@
+package com.dasom.MemoReal.global.accesslog;
+
+import com.dasom.MemoReal.global.exception.ErrorCode;
+
+// 링 버퍼 슬롯. 시작 시 미리 만들어 두고 요청마다 필드만 덮어씀
+final class AccessLogEvent {
+    long timestampMillis;
+    String method;
+    String route;
+    int status;
+    boolean authenticated;
+    long principalId;
+    ErrorCode errorCode;
+    long totalNanos;
+    long jwtNanos;
+    long hashingNanos;
+    long dbNanos;
+
+    // 다 쓴 슬롯이 요청 문자열을 붙잡고 있지 않도록
+    void clear() {
+        method = null;
+        route = null;
+        errorCode = null;
+    }
+}
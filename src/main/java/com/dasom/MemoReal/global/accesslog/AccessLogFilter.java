@@ -0,0 +1,42 @@
+package com.dasom.MemoReal.global.accesslog;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.GenericFilterBean;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// 가장 바깥에서 요청 하나의 시작 ~ 끝을 재서 AccessLog 에 넘김 (Security 필터에서 거절된 요청도 포함)
+// route 는 매핑된 URL 패턴, 매핑되지 않은 요청(404 등)은 요청 URI
+public class AccessLogFilter extends GenericFilterBean {
+
+    private final AccessLog accessLog;
+
+    public AccessLogFilter(AccessLog accessLog) {
+        this.accessLog = accessLog;
+    }
+
+    @Override
+    public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain) throws IOException, ServletException {
+        HttpServletRequest request = (HttpServletRequest) servletRequest;
+        HttpServletResponse response = (HttpServletResponse) servletResponse;
+        RequestTimings timings = RequestTimings.begin();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(servletRequest, servletResponse);
+            failed = false;
+        } finally {
+            long endNanos = System.nanoTime();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String route = pattern instanceof String matched ? matched : request.getRequestURI();
+            // 예외가 컨테이너까지 올라가면 응답 상태는 아직 설정되지 않았으므로 500 으로 기록
+            accessLog.record(request.getMethod(), route, failed ? 500 : response.getStatus(), timings, endNanos);
+            RequestTimings.end();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.dasom.MemoReal.global.accesslog;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// memoreal.access-log.* : 요청별 JSON lines 접근 로그
+@ConfigurationProperties("memoreal.access-log")
+public record AccessLogProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("./logs/access.log") String path,
+        // 링 버퍼 슬롯 수 (2의 거듭제곱으로 올림). 시작 시 한 번만 할당
+        @DefaultValue("8192") int bufferSize,
+        // 버퍼가 가득 찼을 때: DROP 은 바로 버리고 카운트, BLOCK 은 block-timeout-millis 까지 기다린 뒤 버림
+        @DefaultValue("DROP") FullPolicy whenFull,
+        @DefaultValue("5") long blockTimeoutMillis,
+        // 한 번에 꺼내서 파일에 쓰는 최대 이벤트 수
+        @DefaultValue("256") int batchSize,
+        @DefaultValue("104857600") long maxFileSizeBytes, // 100MB 넘으면 access.log.1, .2 ... 로 넘김
+        @DefaultValue("5") int maxHistory
+) {
+
+    public enum FullPolicy {
+        DROP,
+        BLOCK
+    }
+}
@@ -0,0 +1,97 @@
+package com.dasom.MemoReal.global.accesslog;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+// 여러 요청 스레드가 쓰고 writer 스레드 하나가 읽는 고정 크기 링 버퍼 (락 없음, 생성 후 할당 없음)
+// 쓰는 쪽: claim 으로 시퀀스를 CAS 로 가져가서 슬롯을 채운 뒤 publish
+// 읽는 쪽: 슬롯의 published 값이 기다리던 시퀀스와 같을 때까지 순서대로 꺼내고, 다 읽은 만큼 consumed 를 올려서 자리를 돌려줌
+final class AccessLogRingBuffer {
+
+    interface EventHandler {
+        void onEvent(AccessLogEvent event);
+    }
+
+    private final AccessLogEvent[] slots;
+    // 슬롯마다 마지막으로 publish 된 시퀀스 (아직 없으면 -1)
+    private final AtomicLongArray published;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+    // 이 값보다 작은 시퀀스의 슬롯은 다시 써도 됨. writer 스레드만 씀
+    private volatile long consumed;
+
+    AccessLogRingBuffer(int requestedSize) {
+        int size = Integer.highestOneBit(Math.max(2, requestedSize - 1) << 1);
+        this.slots = new AccessLogEvent[size];
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            slots[i] = new AccessLogEvent();
+            published.set(i, -1);
+        }
+        this.mask = size - 1;
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    // 슬롯 하나를 예약. 가득 찼으면 blockNanos 동안 기다리고 그래도 없으면 -1
+    long claim(long blockNanos) {
+        long deadline = 0;
+        while (true) {
+            long sequence = claimed.get();
+            if (sequence - consumed >= slots.length) {
+                if (blockNanos <= 0) {
+                    return -1;
+                }
+                long now = System.nanoTime();
+                if (deadline == 0) {
+                    deadline = now + blockNanos;
+                } else if (now - deadline >= 0) {
+                    return -1;
+                }
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+                continue;
+            }
+            if (claimed.compareAndSet(sequence, sequence + 1)) {
+                return sequence;
+            }
+        }
+    }
+
+    AccessLogEvent slot(long sequence) {
+        return slots[(int) (sequence & mask)];
+    }
+
+    void publish(long sequence) {
+        published.lazySet((int) (sequence & mask), sequence);
+    }
+
+    // 순서대로 publish 된 이벤트를 최대 max 개 처리. 처리한 개수 반환 (writer 스레드 전용)
+    int drain(EventHandler handler, int max) {
+        long next = consumed;
+        int count = 0;
+        while (count < max) {
+            int index = (int) (next & mask);
+            if (published.get(index) != next) {
+                break;
+            }
+            AccessLogEvent event = slots[index];
+            handler.onEvent(event);
+            event.clear();
+            next++;
+            count++;
+        }
+        if (count > 0) {
+            consumed = next;
+        }
+        return count;
+    }
+
+    // 쓰였지만 아직 읽히지 않은 슬롯 수 (대략값)
+    long used() {
+        return Math.max(0, claimed.get() - consumed);
+    }
+}
@@ -0,0 +1,151 @@
+package com.dasom.MemoReal.global.accesslog;
+
+import com.dasom.MemoReal.global.logging.RateLimitedLogger;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+// 링 버퍼를 비우면서 JSON lines 로 파일에 쓰는 백그라운드 스레드 (하나만 실행)
+// 한 번에 꺼낸 이벤트를 묶어서 write 한 번으로 씀. 요청 스레드와 달리 여기서의 할당은 신경 쓰지 않음
+@Slf4j
+final class AccessLogWriter implements Runnable, AccessLogRingBuffer.EventHandler {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AccessLogRingBuffer ring;
+    private final RollingFile file;
+    private final int batchSize;
+    private final StringBuilder batch = new StringBuilder(64 * 1024);
+    private final RateLimitedLogger errorLog = new RateLimitedLogger(log, Level.WARN, Duration.ofSeconds(30));
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile boolean running = true;
+
+    AccessLogWriter(AccessLogRingBuffer ring, RollingFile file, int batchSize) {
+        this.ring = ring;
+        this.file = file;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                if (drainOnce() == 0) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+            }
+            // 종료 시 남은 이벤트까지 씀
+            while (drainOnce() > 0) {
+                // 계속 비움
+            }
+        } finally {
+            try {
+                file.close();
+            } catch (IOException e) {
+                log.warn("Failed to close access log", e);
+            }
+        }
+    }
+
+    void stop() {
+        running = false;
+    }
+
+    long getWrittenCount() {
+        return written.get();
+    }
+
+    long getFailedCount() {
+        return failed.get();
+    }
+
+    RateLimitedLogger getErrorLog() {
+        return errorLog;
+    }
+
+    private int drainOnce() {
+        batch.setLength(0);
+        int count = ring.drain(this, batchSize);
+        if (count == 0) {
+            return 0;
+        }
+        try {
+            file.write(ByteBuffer.wrap(batch.toString().getBytes(StandardCharsets.UTF_8)));
+            written.addAndGet(count);
+        } catch (IOException e) {
+            failed.addAndGet(count);
+            errorLog.log("Failed to write access log: {}", e.getMessage());
+        }
+        return count;
+    }
+
+    // {"ts":"...","method":"POST","route":"/api/users/login","status":200,"uid":null,"error":null,
+    //  "total_ms":52.1,"jwt_ms":0.0,"hash_ms":50.3,"db_ms":0.8}
+    @Override
+    public void onEvent(AccessLogEvent event) {
+        batch.append("{\"ts\":\"");
+        DateTimeFormatter.ISO_INSTANT.formatTo(Instant.ofEpochMilli(event.timestampMillis), batch);
+        batch.append("\",\"method\":\"").append(event.method);
+        batch.append("\",\"route\":\"");
+        appendEscaped(event.route);
+        batch.append("\",\"status\":").append(event.status);
+        batch.append(",\"uid\":");
+        if (event.authenticated) {
+            batch.append('"').append(event.principalId).append('"');
+        } else {
+            batch.append("null");
+        }
+        batch.append(",\"error\":");
+        if (event.errorCode != null) {
+            batch.append('"').append(event.errorCode.getCode()).append('"');
+        } else {
+            batch.append("null");
+        }
+        appendMillis(",\"total_ms\":", event.totalNanos);
+        appendMillis(",\"jwt_ms\":", event.jwtNanos);
+        appendMillis(",\"hash_ms\":", event.hashingNanos);
+        appendMillis(",\"db_ms\":", event.dbNanos);
+        batch.append("}\n");
+    }
+
+    // 소수점 셋째 자리(µs)까지
+    private void appendMillis(String field, long nanos) {
+        long micros = nanos / 1000;
+        long fraction = micros % 1000;
+        batch.append(field).append(micros / 1000).append('.');
+        if (fraction < 100) {
+            batch.append('0');
+        }
+        if (fraction < 10) {
+            batch.append('0');
+        }
+        batch.append(fraction);
+    }
+
+    private void appendEscaped(String value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                batch.append('\\').append(c);
+            } else if (c < 0x20) {
+                batch.append(String.format("\\u%04x", (int) c));
+            } else {
+                batch.append(c);
+            }
+        }
+    }
+}
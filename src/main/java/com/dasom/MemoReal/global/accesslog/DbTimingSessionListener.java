@@ -0,0 +1,42 @@
+package com.dasom.MemoReal.global.accesslog;
+
+import org.hibernate.BaseSessionEventListener;
+
+// Hibernate 세션의 JDBC 실행 시간을 요청의 DB 시간으로 더함 (hibernate.session.events.auto 로 세션마다 생성)
+// LazyConnectionDataSourceProxy 때문에 실제 커넥션 획득(풀 대기)은 첫 statement 실행 시간에 포함됨
+public class DbTimingSessionListener extends BaseSessionEventListener {
+
+    private long connectionStart;
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        connectionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        RequestTimings.addDb(System.nanoTime() - connectionStart);
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestTimings.addDb(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestTimings.addDb(System.nanoTime() - batchStart);
+    }
+}
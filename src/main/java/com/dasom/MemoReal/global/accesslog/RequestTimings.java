@@ -0,0 +1,91 @@
+package com.dasom.MemoReal.global.accesslog;
+
+import com.dasom.MemoReal.global.exception.ErrorCode;
+
+// 요청 하나가 단계별로 쓴 시간과 접근 로그에 남길 정보
+// AccessLogFilter 가 요청 시작 시 현재 스레드에 붙이고, JWT 필터 / 해싱 / Hibernate(DB) 가 각자 시간을 더함
+// 플랫폼 스레드에서는 스레드마다 인스턴스 하나를 재사용 (요청마다 할당 없음)
+// CPU 작업을 다른 스레드로 넘길 때는 attach 로 같은 인스턴스를 붙여서 넘긴 스레드의 시간도 합산
+// (넘긴 동안 요청 스레드는 결과를 기다리므로 두 스레드가 동시에 쓰지 않음)
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<RequestTimings> REUSABLE = ThreadLocal.withInitial(RequestTimings::new);
+
+    long startNanos;
+    long jwtNanos;
+    long hashingNanos;
+    long dbNanos;
+    boolean authenticated;
+    long principalId;
+    ErrorCode errorCode;
+
+    RequestTimings() {
+    }
+
+    static RequestTimings begin() {
+        RequestTimings timings = REUSABLE.get();
+        timings.startNanos = System.nanoTime();
+        timings.jwtNanos = 0;
+        timings.hashingNanos = 0;
+        timings.dbNanos = 0;
+        timings.authenticated = false;
+        timings.principalId = 0;
+        timings.errorCode = null;
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    // remove 대신 null 로 둬서 다음 요청의 set 이 ThreadLocalMap 엔트리를 새로 만들지 않게 함
+    static void end() {
+        CURRENT.set(null);
+    }
+
+    // 요청 밖(스케줄러 등)이면 null
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    // 다른 스레드에서 실행할 때 요청의 인스턴스를 붙이고, 이전 값을 돌려줌 (끝나면 다시 attach(이전 값))
+    public static RequestTimings attach(RequestTimings timings) {
+        RequestTimings previous = CURRENT.get();
+        CURRENT.set(timings);
+        return previous;
+    }
+
+    public static void addJwt(long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.jwtNanos += nanos;
+        }
+    }
+
+    public static void addHashing(long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.hashingNanos += nanos;
+        }
+    }
+
+    public static void addDb(long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.dbNanos += nanos;
+        }
+    }
+
+    public static void setPrincipal(long userId) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.authenticated = true;
+            timings.principalId = userId;
+        }
+    }
+
+    public static void setErrorCode(ErrorCode errorCode) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.errorCode = errorCode;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.dasom.MemoReal.global.accesslog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+// 크기 기준으로 넘기는 로그 파일. access.log 가 maxBytes 를 넘으면 access.log.1 로, 기존 .1 은 .2 로 ... maxHistory 개까지 보관
+// writer 스레드 하나만 사용
+final class RollingFile implements Closeable {
+
+    private final Path path;
+    private final long maxBytes;
+    private final int maxHistory;
+    private FileChannel channel;
+    private long size;
+
+    RollingFile(Path path, long maxBytes, int maxHistory) {
+        this.path = path;
+        this.maxBytes = maxBytes;
+        this.maxHistory = Math.max(1, maxHistory);
+    }
+
+    void write(ByteBuffer buffer) throws IOException {
+        if (channel == null) {
+            open();
+        }
+        if (size > 0 && size + buffer.remaining() > maxBytes) {
+            roll();
+        }
+        while (buffer.hasRemaining()) {
+            size += channel.write(buffer);
+        }
+    }
+
+    private void open() throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        size = channel.size();
+    }
+
+    private void roll() throws IOException {
+        channel.close();
+        channel = null;
+        for (int i = maxHistory - 1; i >= 1; i--) {
+            Path source = sibling(i);
+            if (Files.exists(source)) {
+                Files.move(source, sibling(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(path, sibling(1), StandardCopyOption.REPLACE_EXISTING);
+        open();
+    }
+
+    private Path sibling(int index) {
+        return path.resolveSibling(path.getFileName() + "." + index);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+}
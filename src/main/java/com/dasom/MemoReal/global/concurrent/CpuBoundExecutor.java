@@ -0,0 +1,102 @@
+package com.dasom.MemoReal.global.concurrent;
+
+import com.dasom.MemoReal.global.accesslog.RequestTimings;
+import com.dasom.MemoReal.global.exception.ErrorCode;
+import com.dasom.MemoReal.global.exception.TooManyRequestsException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// BCrypt 처럼 CPU 를 오래 점유하는 작업을 코어 수 만큼의 플랫폼 스레드 풀에서 실행
+// 가상 스레드 모드(spring.threads.virtual.enabled)에서 요청 스레드가 가상 스레드일 때만 넘기고,
+// 그 외에는 호출한 스레드에서 그대로 실행
+@Slf4j
+@Component
+public class CpuBoundExecutor implements DisposableBean {
+
+    private final boolean enabled;
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+
+    public CpuBoundExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean enabled,
+                            @Value("${memoreal.cpu-bound.pool-size:0}") int poolSize,
+                            @Value("${memoreal.cpu-bound.queue-capacity:1000}") int queueCapacity,
+                            @Value("${memoreal.cpu-bound.retry-after-seconds:1}") long retryAfterSeconds) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.enabled = enabled;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new PlatformThreadFactory());
+        if (enabled) {
+            log.info("CPU-bound work is offloaded to {} platform threads", threads);
+        }
+    }
+
+    public <T> T call(Supplier<T> task) {
+        if (!enabled || !Thread.currentThread().isVirtual()) {
+            return task.get();
+        }
+        // 풀 스레드에서 쓴 해싱 / DB 시간도 이 요청의 접근 로그에 합산되도록 같은 RequestTimings 를 붙임
+        RequestTimings timings = RequestTimings.current();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                RequestTimings previous = RequestTimings.attach(timings);
+                try {
+                    return task.get();
+                } finally {
+                    RequestTimings.attach(previous);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 대기열이 꽉 찬 건 서버 오류가 아니라 과부하이므로 500 대신 429
+            throw new TooManyRequestsException(ErrorCode.TOO_MANY_REQUESTS, retryAfterSeconds);
+        }
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for CPU-bound task", e);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private static class PlatformThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "cpu-bound-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.dasom.MemoReal.global.config;
+
+import com.dasom.MemoReal.global.datasource.ReadYourWrites;
+import com.dasom.MemoReal.global.datasource.ReplicaProperties;
+import com.dasom.MemoReal.global.datasource.ReplicationRoutingDataSource;
+import com.dasom.MemoReal.global.datasource.ReplicationRoutingDataSource.ReplicaNode;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+// LazyConnectionDataSourceProxy -> ReplicationRoutingDataSource -> primary / replica 풀
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class DataSourceConfig {
+
+    // 실제 커넥션 풀(primary). spring.datasource.* / spring.datasource.hikari.* 설정을 그대로 사용
+    // 다른 빈이 풀을 직접 주입받지 않도록 autowire 후보에서 제외 (항상 아래 프록시를 거치게 함)
+    @Bean(autowireCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource hikariDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReadYourWrites readYourWrites(ReplicaProperties replicaProperties) {
+        return new ReadYourWrites(replicaProperties.stickyWindowMillis());
+    }
+
+    // replica 풀은 primary 의 풀 설정을 복사해서 URL / 계정만 바꿔 만듦
+    @Bean(autowireCandidate = false)
+    public ReplicationRoutingDataSource replicationRoutingDataSource(DataSourceProperties properties,
+                                                                     ReplicaProperties replicaProperties,
+                                                                     ReadYourWrites readYourWrites,
+                                                                     MeterRegistry meterRegistry) {
+        HikariDataSource primary = hikariDataSource(properties);
+        List<ReplicaNode> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaProperties.replicas().size(); i++) {
+            ReplicaProperties.Replica replica = replicaProperties.replicas().get(i);
+            HikariDataSource pool = new HikariDataSource();
+            primary.copyStateTo(pool);
+            pool.setPoolName("replica-" + i);
+            pool.setJdbcUrl(replica.url());
+            pool.setUsername(replica.username());
+            pool.setPassword(replica.password());
+            pool.setReadOnly(true);
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(new ReplicaNode(pool.getPoolName(), pool));
+        }
+        return new ReplicationRoutingDataSource(primary, replicas, readYourWrites,
+                replicaProperties.maxLagSeconds(), replicaProperties.lagQuery(), meterRegistry);
+    }
+
+    // 트랜잭션이 시작돼도 실제 SQL 을 실행하기 전까지는 풀에서 커넥션을 꺼내지 않음
+    // 트랜잭션 안에서 BCrypt 같은 느린 작업을 먼저 하더라도 그동안 커넥션을 붙잡지 않고,
+    // 커넥션을 꺼내는 시점에는 readOnly 여부가 정해져 있어서 replica 라우팅이 가능함
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties, ReplicaProperties replicaProperties,
+                                 ReadYourWrites readYourWrites, MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(
+                replicationRoutingDataSource(properties, replicaProperties, readYourWrites, meterRegistry));
+    }
+}
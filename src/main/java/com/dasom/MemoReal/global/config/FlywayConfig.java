@@ -0,0 +1,26 @@
+package com.dasom.MemoReal.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Slf4j
+@Configuration
+public class FlywayConfig {
+
+    // Docker 이미지 빌드 중 CDS 학습 실행에는 DB 가 없으므로 마이그레이션을 건너뜀
+    // AOT 빌드에서는 조건부 빈 구성이 빌드 시점에 고정되므로 flyway.enabled 대신 런타임에 읽는 값으로 분기
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(
+            @Value("${memoreal.startup.training-run:false}") boolean trainingRun) {
+        return flyway -> {
+            if (trainingRun) {
+                log.info("Training run, skipping schema migration");
+                return;
+            }
+            flyway.migrate();
+        };
+    }
+}
@@ -0,0 +1,55 @@
+package com.dasom.MemoReal.global.config;
+
+import com.dasom.MemoReal.domain.user.entity.Role;
+import com.dasom.MemoReal.domain.user.entity.User;
+import com.dasom.MemoReal.global.id.TsidGenerator;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+// AOT 빌드(processAot)에 넘겨주는 런타임 힌트
+// jjwt 는 구현 클래스를 이름으로 찾아서 리플렉션으로 만들고, 직렬화기는 ServiceLoader 로 찾음
+// User 와 TsidGenerator 는 Hibernate 가 리플렉션으로 생성
+@Configuration
+@ImportRuntimeHints(RuntimeHintsConfig.MemoRealRuntimeHints.class)
+public class RuntimeHintsConfig {
+
+    static class MemoRealRuntimeHints implements RuntimeHintsRegistrar {
+
+        private static final String[] JJWT_TYPES = {
+                "io.jsonwebtoken.impl.DefaultJwtBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+                "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+                "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardKeyOperations",
+                "io.jsonwebtoken.impl.security.KeysBridge",
+                "io.jsonwebtoken.jackson.io.JacksonSerializer",
+                "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+        };
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (String type : JJWT_TYPES) {
+                hints.reflection().registerType(TypeReference.of(type),
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.io.*");
+            // Hibernate 2차 캐시 설정 (hibernate.javax.cache.uri)
+            hints.resources().registerPattern("ehcache.xml");
+
+            hints.reflection().registerType(User.class,
+                    MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_METHODS);
+            hints.reflection().registerType(Role.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+            hints.reflection().registerType(TsidGenerator.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        }
+    }
+}
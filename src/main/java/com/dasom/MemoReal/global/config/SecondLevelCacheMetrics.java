@@ -0,0 +1,47 @@
+package com.dasom.MemoReal.global.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+// 2차 캐시 region 별 적중률 (hibernate.cache.hit.ratio{region}) 과 들어있는 엔트리 수
+// 적중/실패 횟수 자체는 hibernate-micrometer 가 hibernate.second.level.cache.requests 로 내보냄
+@Component
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+
+    public SecondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            Gauge.builder("hibernate.cache.hit.ratio", statistics, s -> hitRatio(s.getDomainDataRegionStatistics(region)))
+                    .tag("region", region)
+                    .register(registry);
+            Gauge.builder("hibernate.cache.entries", statistics, s -> entries(s.getDomainDataRegionStatistics(region)))
+                    .tag("region", region)
+                    .register(registry);
+        }
+    }
+
+    private static double hitRatio(CacheRegionStatistics region) {
+        if (region == null) {
+            return Double.NaN;
+        }
+        long total = region.getHitCount() + region.getMissCount();
+        return total == 0 ? Double.NaN : (double) region.getHitCount() / total;
+    }
+
+    private static double entries(CacheRegionStatistics region) {
+        // 캐시 구현이 개수를 알려주지 않으면 음수
+        return region == null || region.getElementCountInMemory() < 0 ? Double.NaN : region.getElementCountInMemory();
+    }
+}
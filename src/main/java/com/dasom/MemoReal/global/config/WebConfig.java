@@ -0,0 +1,31 @@
+package com.dasom.MemoReal.global.config;
+
+import com.dasom.MemoReal.global.accesslog.AccessLog;
+import com.dasom.MemoReal.global.accesslog.AccessLogFilter;
+import com.dasom.MemoReal.global.security.principal.CurrentUserArgumentResolver;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new CurrentUserArgumentResolver());
+    }
+
+    // Security 필터 체인보다 앞에서 요청 전체 시간을 잼 (요청 제한 / 인증 실패로 거절된 요청도 기록)
+    @Bean
+    public FilterRegistrationBean<AccessLogFilter> accessLogFilter(AccessLog accessLog) {
+        FilterRegistrationBean<AccessLogFilter> registration = new FilterRegistrationBean<>(new AccessLogFilter(accessLog));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        registration.setEnabled(accessLog.isEnabled());
+        return registration;
+    }
+}
@@ -0,0 +1,108 @@
+package com.dasom.MemoReal.global.datasource;
+
+import com.dasom.MemoReal.global.security.principal.AuthUser;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// 사용자별 마지막 쓰기 시각. 쓰기 직후 일정 시간 동안은 그 사용자의 읽기를 primary 로 보내서
+// 아직 replica 에 복제되지 않은 자신의 데이터를 못 읽는 문제를 막음
+// 사용자 키는 callAs 로 지정한 값(가입/로그인처럼 인증 전 요청) 또는 현재 인증 정보의 이름
+public class ReadYourWrites {
+
+    // 키가 너무 많이 쌓이면 만료된 것부터 정리
+    private static final int MAX_KEYS = 100_000;
+    private static final ThreadLocal<String> CURRENT_KEY = new ThreadLocal<>();
+
+    private final long windowMillis;
+    private final ConcurrentHashMap<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReadYourWrites(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    public <T> T callAs(String key, Supplier<T> task) {
+        String previous = CURRENT_KEY.get();
+        CURRENT_KEY.set(normalize(key));
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) {
+                CURRENT_KEY.remove();
+            } else {
+                CURRENT_KEY.set(previous);
+            }
+        }
+    }
+
+    // 현재 사용자가 최근에 쓰기를 했는지
+    public boolean isSticky() {
+        if (windowMillis <= 0) {
+            return false;
+        }
+        String key = currentKey();
+        if (key == null) {
+            return false;
+        }
+        Long writtenAt = lastWrites.get(key);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() - writtenAt < windowMillis) {
+            return true;
+        }
+        lastWrites.remove(key, writtenAt);
+        return false;
+    }
+
+    // 현재 사용자의 쓰기 트랜잭션이 커밋된 뒤 호출
+    public void recordWrite() {
+        recordWrite(currentKey());
+    }
+
+    // 요청 스레드 밖에서 (write-behind 등) 특정 사용자 대신 쓴 경우
+    public void recordWrite(String key) {
+        key = normalize(key);
+        if (key == null || windowMillis <= 0) {
+            return;
+        }
+        if (lastWrites.size() >= MAX_KEYS) {
+            purgeExpired();
+        }
+        lastWrites.put(key, System.currentTimeMillis());
+    }
+
+    public int size() {
+        return lastWrites.size();
+    }
+
+    private void purgeExpired() {
+        long threshold = System.currentTimeMillis() - windowMillis;
+        lastWrites.values().removeIf(writtenAt -> writtenAt < threshold);
+    }
+
+    private static String currentKey() {
+        String key = CURRENT_KEY.get();
+        if (key != null) {
+            return key;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        // 로그인 / 가입과 같은 키(이메일)를 쓰도록 토큰의 email 사용
+        if (authentication.getPrincipal() instanceof AuthUser user) {
+            return normalize(user.email());
+        }
+        return normalize(authentication.getName());
+    }
+
+    private static String normalize(String key) {
+        return key == null ? null : key.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,23 @@
+package com.dasom.MemoReal.global.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+// memoreal.datasource.* : 읽기 전용 replica 설정. replicas 가 비어 있으면 모든 쿼리가 primary 로 감
+@ConfigurationProperties("memoreal.datasource")
+public record ReplicaProperties(
+        @DefaultValue List<Replica> replicas,
+        // 자신이 쓴 데이터를 바로 다시 읽을 수 있도록, 쓰기 후 이 시간 동안은 같은 사용자의 읽기도 primary 로 보냄
+        @DefaultValue("2000") long stickyWindowMillis,
+        @DefaultValue("5000") long healthCheckIntervalMillis,
+        // 이 값보다 뒤처진 replica 는 라우팅 대상에서 제외
+        @DefaultValue("10") long maxLagSeconds,
+        // 복제 지연(초)을 첫 번째 컬럼으로 돌려주는 쿼리. 비어 있으면 연결 가능 여부만 확인
+        @DefaultValue("") String lagQuery
+) {
+
+    public record Replica(String url, String username, String password) {
+    }
+}
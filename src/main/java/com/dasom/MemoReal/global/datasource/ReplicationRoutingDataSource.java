@@ -0,0 +1,221 @@
+package com.dasom.MemoReal.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// readOnly 트랜잭션은 replica 로, 나머지는 primary 로 보내는 DataSource
+// 트랜잭션이 시작된 뒤 실제 커넥션을 꺼낼 때 readOnly 여부를 판단하므로 반드시 LazyConnectionDataSourceProxy 아래에 둬야 함
+// replica 는 건강한 것만 round-robin 으로 고르고, 전부 비정상이거나 최근에 쓰기를 한 사용자의 읽기는 primary 로 보냄
+@Slf4j
+public class ReplicationRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private final DataSource primary;
+    private final List<ReplicaNode> replicas;
+    private final ReadYourWrites readYourWrites;
+    private final long maxLagSeconds;
+    private final String lagQuery;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final Counter writeRoutes;
+    private final Counter readRoutes;
+    private final Counter stickyRoutes;
+    private final Counter fallbackRoutes;
+
+    public ReplicationRoutingDataSource(DataSource primary, List<ReplicaNode> replicas, ReadYourWrites readYourWrites,
+                                        long maxLagSeconds, String lagQuery, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.readYourWrites = readYourWrites;
+        this.maxLagSeconds = maxLagSeconds;
+        this.lagQuery = lagQuery;
+
+        this.writeRoutes = routeCounter(meterRegistry, "primary", "write");
+        this.readRoutes = routeCounter(meterRegistry, "replica", "read");
+        this.stickyRoutes = routeCounter(meterRegistry, "primary", "sticky");
+        this.fallbackRoutes = routeCounter(meterRegistry, "primary", "no-healthy-replica");
+        for (ReplicaNode replica : this.replicas) {
+            Gauge.builder("db.replica.lag", replica, ReplicaNode::lagSeconds)
+                    .tag("replica", replica.name())
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            Gauge.builder("db.replica.healthy", replica, r -> r.healthy() ? 1 : 0)
+                    .tag("replica", replica.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("db.routing")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route().getConnection(username, password);
+    }
+
+    private DataSource route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writeRoutes.increment();
+            registerWriteCallback();
+            return primary;
+        }
+        if (readYourWrites.isSticky()) {
+            stickyRoutes.increment();
+            return primary;
+        }
+        ReplicaNode replica = nextHealthyReplica();
+        if (replica == null) {
+            fallbackRoutes.increment();
+            return primary;
+        }
+        readRoutes.increment();
+        return replica.dataSource();
+    }
+
+    // 쓰기 트랜잭션이 커밋되면 그 사용자를 stickiness 대상으로 기록
+    private void registerWriteCallback() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWrites.recordWrite();
+            }
+        });
+    }
+
+    private ReplicaNode nextHealthyReplica() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            ReplicaNode replica = replicas.get((start + i) % size);
+            if (replica.healthy()) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    // 각 replica 에 연결해서 지연을 확인. 연결 실패 또는 maxLagSeconds 초과면 비정상으로 표시
+    @Scheduled(fixedDelayString = "${memoreal.datasource.health-check-interval-millis:5000}")
+    public void checkReplicas() {
+        for (ReplicaNode replica : replicas) {
+            boolean wasHealthy = replica.healthy();
+            try (Connection connection = replica.dataSource().getConnection()) {
+                double lag = measureLag(connection);
+                replica.update(lag, lag <= maxLagSeconds);
+            } catch (SQLException | RuntimeException e) {
+                replica.update(Double.NaN, false);
+                log.debug("Replica {} health check failed", replica.name(), e);
+            }
+            if (wasHealthy != replica.healthy()) {
+                log.warn("Replica {} is now {} (lag {}s)", replica.name(),
+                        replica.healthy() ? "healthy" : "unhealthy", replica.lagSeconds());
+            }
+        }
+    }
+
+    private double measureLag(Connection connection) throws SQLException {
+        if (!StringUtils.hasText(lagQuery)) {
+            if (!connection.isValid(1)) {
+                throw new SQLException("Connection is not valid");
+            }
+            return 0;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) {
+                throw new SQLException("Lag query returned no rows");
+            }
+            double lag = resultSet.getDouble(1);
+            if (resultSet.wasNull()) {
+                throw new SQLException("Replication is not running");
+            }
+            return lag;
+        }
+    }
+
+    // Boot 의 커넥션 풀 메트릭 등이 primary 풀을 찾을 수 있도록 unwrap 은 primary 로 위임
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        return primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+
+    // replica 풀은 이 클래스가 만들고 소유하므로 함께 닫음 (primary 풀은 별도 빈)
+    @Override
+    public void close() throws Exception {
+        for (ReplicaNode replica : replicas) {
+            if (replica.dataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    public static final class ReplicaNode {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+        private volatile double lagSeconds;
+
+        public ReplicaNode(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public DataSource dataSource() {
+            return dataSource;
+        }
+
+        public boolean healthy() {
+            return healthy;
+        }
+
+        public double lagSeconds() {
+            return lagSeconds;
+        }
+
+        void update(double lagSeconds, boolean healthy) {
+            this.lagSeconds = lagSeconds;
+            this.healthy = healthy;
+        }
+    }
+}
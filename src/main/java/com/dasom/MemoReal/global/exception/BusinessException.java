@@ -0,0 +1,14 @@
+package com.dasom.MemoReal.global.exception;
+
+// 중복 가입, 잘못된 토큰처럼 정상 흐름에서 예상되는 에러
+// 원인은 ErrorCode 로 충분하므로 스택 트레이스를 만들지 않음 (대량 실패 요청에서도 생성 비용이 거의 없음)
+public class BusinessException extends CustomException {
+
+    public BusinessException(ErrorCode errorCode) {
+        super(errorCode, errorCode.getMessage(), false);
+    }
+
+    public BusinessException(ErrorCode errorCode, String customMessage) {
+        super(errorCode, customMessage, false);
+    }
+}
@@ -16,4 +16,10 @@ public class CustomException extends RuntimeException {
         super(customMessage);
         this.errorCode = errorCode;
     }// 에러코드는 공유하되 메시지 커스텀 해서 사용
-}
\ No newline at end of file
+
+    // writableStackTrace=false 면 생성 시 스택을 수집하지 않음 (BusinessException 용)
+    protected CustomException(ErrorCode errorCode, String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.errorCode = errorCode;
+    }
+}
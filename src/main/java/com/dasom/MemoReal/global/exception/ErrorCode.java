@@ -14,10 +14,20 @@ public enum ErrorCode {
     // 사용자 로그인 관련 에러
     USER_NOT_FOUND("AUTH_001", HttpStatus.NOT_FOUND, "이메일이 존재하지 않습니다."),
     INVALID_PASSWORD("AUTH_002", HttpStatus.UNAUTHORIZED, "비밀번호가 일치하지 않습니다."),
+    TOO_MANY_HASHING_REQUESTS("AUTH_003", HttpStatus.TOO_MANY_REQUESTS, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    INVALID_REFRESH_TOKEN("AUTH_004", HttpStatus.UNAUTHORIZED, "유효하지 않은 리프레시 토큰입니다."),
+    REFRESH_TOKEN_REUSED("AUTH_005", HttpStatus.UNAUTHORIZED, "이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요."),
+
+    // 메모
+    MEMO_NOT_FOUND("MEMO_001", HttpStatus.NOT_FOUND, "메모를 찾을 수 없습니다."),
+    INVALID_CURSOR("MEMO_002", HttpStatus.BAD_REQUEST, "유효하지 않은 페이지 커서입니다."),
+    SEARCH_QUERY_TOO_SHORT("MEMO_003", HttpStatus.BAD_REQUEST, "검색어는 두 글자 이상이어야 합니다."),
+    MEMO_AUTOSAVE_BUSY("MEMO_004", HttpStatus.TOO_MANY_REQUESTS, "자동 저장 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // 일반적인 에러(유효성 검사 등)
     INVALID_INPUT_VALUE("COMMON_001", HttpStatus.BAD_REQUEST, "유효하지 않은 입력 값입니다."),
     UNAUTHORIZED("COMMON_002", HttpStatus.UNAUTHORIZED, "인증되지 않은 접근입니다."),
+    TOO_MANY_REQUESTS("COMMON_003", HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
     INTERNAL_SERVER_ERROR("COMMON_999", HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다.");
 
     private final String code;
@@ -0,0 +1,45 @@
+package com.dasom.MemoReal.global.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// ErrorCode 별 JSON 에러 응답 본문을 시작 시 한 번만 직렬화해 둠
+// GlobalExceptionHandler 와 MVC 밖에서 직접 응답하는 필터가 같은 본문을 사용
+@Component
+public class ErrorResponses {
+
+    private final Map<ErrorCode, byte[]> bodies = new EnumMap<>(ErrorCode.class);
+    private final byte[] internalErrorBody;
+
+    public ErrorResponses(ObjectMapper objectMapper) {
+        for (ErrorCode code : ErrorCode.values()) {
+            bodies.put(code, serialize(objectMapper, code.getMessage()));
+        }
+        this.internalErrorBody = serialize(objectMapper, "Internal Server Error");
+    }
+
+    public byte[] body(ErrorCode code) {
+        return bodies.get(code);
+    }
+
+    // 예기치 못한 예외용. 내부 메시지를 노출하지 않음
+    public byte[] internalErrorBody() {
+        return internalErrorBody;
+    }
+
+    private static byte[] serialize(ObjectMapper objectMapper, String message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("success", false);
+        body.put("error", message);
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,12 +1,22 @@
 package com.dasom.MemoReal.global.exception;
 
-import org.springframework.http.HttpStatus;
+import com.dasom.MemoReal.global.accesslog.RequestTimings;
+import com.dasom.MemoReal.global.logging.RateLimitedLogger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
 
+import java.time.Duration;
+import java.util.EnumMap;
 import java.util.Map;
 
 
@@ -14,31 +24,65 @@ import java.util.Map;
 public class GlobalExceptionHandler {
 
     private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+    // 같은 ErrorCode 로그는 이 간격마다 한 번만 남김
+    private static final Duration LOG_INTERVAL = Duration.ofSeconds(10);
+
+    // ErrorCode 별 카운터, 미리 직렬화한 응답 본문, 로그 제한기. 요청 경로에서는 조회만 함
+    private final Map<ErrorCode, ErrorSlot> slots = new EnumMap<>(ErrorCode.class);
+    private final byte[] internalErrorBody;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry, ErrorResponses errorResponses) {
+        for (ErrorCode code : ErrorCode.values()) {
+            Counter counter = Counter.builder("app.errors")
+                    .tag("code", code.getCode())
+                    .tag("status", String.valueOf(code.getHttpStatus().value()))
+                    .register(meterRegistry);
+            slots.put(code, new ErrorSlot(counter, errorResponses.body(code),
+                    new RateLimitedLogger(log, Level.WARN, LOG_INTERVAL).register(meterRegistry, code.getCode())));
+        }
+        this.internalErrorBody = errorResponses.internalErrorBody();
+    }
 
     // 사용자 정의 예외 처리 (비즈니스, 서버 예외)
     @ExceptionHandler(CustomException.class)
-    protected ResponseEntity<?> handleCustomException(CustomException e) {
+    protected ResponseEntity<byte[]> handleCustomException(CustomException e) {
         ErrorCode code = e.getErrorCode();
-        HttpStatus status = code.getHttpStatus();
-        log.warn("CustomException occurred: {}", code.getMessage(), e);
-        return ResponseEntity
-                .status(status)
-                .body(Map.of(
-                        "success", false,
-                        "error", code.getMessage()
-                )); // 오류라 success=false와 에러 메시지 전달 // 오류라 success=false
+        ErrorSlot slot = slots.get(code);
+        slot.counter().increment();
+        RequestTimings.setErrorCode(code);
+        // 예상된 에러(BusinessException)는 스택 없이, 그 외에는 스택과 함께. 둘 다 ErrorCode 별로 빈도 제한
+        slot.logger().log("CustomException occurred: {}", code.getMessage(),
+                e instanceof BusinessException ? null : e);
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(code.getHttpStatus())
+                .contentType(MediaType.APPLICATION_JSON);
+        if (e instanceof TooManyRequestsException tooManyRequests) {
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf(tooManyRequests.getRetryAfterSeconds()));
+        }
+        return response.body(slot.body()); // 오류라 success=false와 에러 메시지 전달
+    }
+
+    // 로그인 실패. 잘못된 비밀번호는 INVALID_PASSWORD, UserDetailsService 에서 던진 예외는 그 ErrorCode 로 응답
+    @ExceptionHandler(AuthenticationException.class)
+    protected ResponseEntity<byte[]> handleAuthenticationException(AuthenticationException e) {
+        if (e.getCause() instanceof CustomException cause) {
+            return handleCustomException(cause);
+        }
+        ErrorCode code = e instanceof BadCredentialsException ? ErrorCode.INVALID_PASSWORD : ErrorCode.UNAUTHORIZED;
+        return handleCustomException(new BusinessException(code));
     }
 
     // 예기치 못한 예외 처리
     @ExceptionHandler(Exception.class)
-    protected ResponseEntity<?> handleException(Exception e) {
+    protected ResponseEntity<byte[]> handleException(Exception e) {
+        slots.get(ErrorCode.INTERNAL_SERVER_ERROR).counter().increment();
+        RequestTimings.setErrorCode(ErrorCode.INTERNAL_SERVER_ERROR);
         log.error("Unhandled Exception: {}", e.getMessage(), e);
         return ResponseEntity
                 .status(ErrorCode.INTERNAL_SERVER_ERROR.getHttpStatus())
-                .body(Map.of(
-                        "success", false,
-                        "error", "Internal Server Error"
-                ));// 오류라 success=false
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(internalErrorBody);// 오류라 success=false
     }
 
-}
\ No newline at end of file
+    private record ErrorSlot(Counter counter, byte[] body, RateLimitedLogger logger) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.dasom.MemoReal.global.exception;
+
+import lombok.Getter;
+
+// 429 응답용 예외. GlobalExceptionHandler 가 retryAfterSeconds 를 Retry-After 헤더로 내려줌
+@Getter
+public class TooManyRequestsException extends BusinessException {
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(ErrorCode errorCode, long retryAfterSeconds) {
+        super(errorCode);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,15 @@
+package com.dasom.MemoReal.global.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 시간 순서로 증가하는 64bit ID 를 애플리케이션에서 생성 (IDENTITY 와 달리 JDBC batch insert 가능)
+@IdGeneratorType(TsidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface Tsid {
+}
@@ -0,0 +1,52 @@
+package com.dasom.MemoReal.global.id;
+
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Snowflake 형태의 64bit ID
+// | 41bit: EPOCH 이후 ms | 10bit: 노드 ID | 12bit: 같은 ms 안의 순번 |
+// 노드 ID 는 MEMOREAL_ID_NODE_ID 환경 변수 (또는 -Dmemoreal.id.node-id) 로 지정, 없으면 시작 시 임의로 선택
+public final class TsidFactory {
+
+    private static final long EPOCH = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long NODE = resolveNode();
+
+    // 마지막으로 발급한 (ms << SEQUENCE_BITS | 순번). 순번이 넘치면 다음 ms 를 미리 당겨 씀
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private TsidFactory() {
+    }
+
+    public static long next() {
+        long now = (System.currentTimeMillis() - EPOCH) << SEQUENCE_BITS;
+        long last;
+        long candidate;
+        do {
+            last = LAST.get();
+            candidate = now > last ? now : last + 1;
+        } while (!LAST.compareAndSet(last, candidate));
+
+        long timestamp = candidate >>> SEQUENCE_BITS;
+        long sequence = candidate & ((1L << SEQUENCE_BITS) - 1);
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (NODE << SEQUENCE_BITS) | sequence;
+    }
+
+    // 이 시각(epoch ms) 이후에 발급된 ID 는 모두 이 값 이상 (시간 기준 범위 조회용)
+    public static long minIdAt(long epochMillis) {
+        return Math.max(0, epochMillis - EPOCH) << (NODE_BITS + SEQUENCE_BITS);
+    }
+
+    private static long resolveNode() {
+        String configured = System.getProperty("memoreal.id.node-id", System.getenv("MEMOREAL_ID_NODE_ID"));
+        long node = configured != null
+                ? Long.parseLong(configured.trim())
+                : ThreadLocalRandom.current().nextLong(1L << NODE_BITS);
+        if (node < 0 || node >= (1L << NODE_BITS)) {
+            throw new IllegalStateException("memoreal.id.node-id must be between 0 and " + ((1L << NODE_BITS) - 1));
+        }
+        return node;
+    }
+}
@@ -0,0 +1,19 @@
+package com.dasom.MemoReal.global.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+
+// @Tsid 가 붙은 식별자에 TsidFactory 로 만든 ID 를 넣어주는 Hibernate generator
+public class TsidGenerator implements IdentifierGenerator {
+
+    public TsidGenerator(Tsid config, Member idMember, CustomIdGeneratorCreationContext creationContext) {
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return TsidFactory.next();
+    }
+}
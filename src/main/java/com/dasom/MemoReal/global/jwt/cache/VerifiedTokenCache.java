@@ -0,0 +1,155 @@
+package com.dasom.MemoReal.global.jwt.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+// 서명 검증이 끝난 토큰의 Authentication 을 보관하는 캐시
+// 키는 토큰 원문이 아니라 SHA-256 다이제스트, 엔트리는 토큰의 exp 를 넘겨서 살아있지 않음
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private final int maxSize;
+    private final long maxTtlMillis;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public VerifiedTokenCache(@Value("${spring.jwt.cache.max-size:10000}") int maxSize,
+                              @Value("${spring.jwt.cache.max-ttl-seconds:300}") long maxTtlSeconds) {
+        this.maxSize = maxSize;
+        this.maxTtlMillis = maxTtlSeconds * 1000;
+    }
+
+    // 캐시에 있고 아직 만료되지 않은 경우에만 엔트리 반환, 아니면 null
+    public Entry get(String token) {
+        if (maxSize <= 0) {
+            return null;
+        }
+        String key = digest(token);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            if (entries.remove(key, entry)) {
+                evictions.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry;
+    }
+
+    // tokenExpiresAt: 토큰의 exp (epoch millis). 캐시 수명은 exp 와 max-ttl 중 짧은 쪽
+    // jti 는 캐시 적중 시에도 폐기 여부를 확인할 수 있도록 함께 보관
+    public void put(String token, Authentication authentication, String jti, long tokenExpiresAt) {
+        if (maxSize <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long expiresAt = Math.min(tokenExpiresAt, now + maxTtlMillis);
+        if (expiresAt <= now) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            shrink(now);
+        }
+        entries.put(digest(token), new Entry(authentication, jti, tokenExpiresAt, expiresAt));
+    }
+
+    public void invalidate(String token) {
+        if (entries.remove(digest(token)) != null) {
+            evictions.increment();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("jwt.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("jwt.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("jwt.cache.evictions", evictions, LongAdder::sum)
+                .register(registry);
+        Gauge.builder("jwt.cache.size", entries, Map::size)
+                .register(registry);
+    }
+
+    // 만료된 엔트리부터 정리하고, 그래도 가득 차 있으면 최대 크기의 90% 까지 임의로 비움
+    // 동시에 여러 스레드가 정리하지 않도록 한 스레드만 수행
+    private void shrink(long now) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            entries.forEach((key, entry) -> {
+                if (entry.expiresAt() <= now && entries.remove(key, entry)) {
+                    evictions.increment();
+                }
+            });
+            int target = maxSize - Math.max(1, maxSize / 10);
+            Iterator<String> iterator = entries.keySet().iterator();
+            while (entries.size() > target && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictions.increment();
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private static String digest(String token) {
+        MessageDigest md = SHA_256.get();
+        return HexFormat.of().formatHex(md.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    public record Entry(Authentication authentication, String jti, long tokenExpiresAt, long expiresAt) {
+    }
+}
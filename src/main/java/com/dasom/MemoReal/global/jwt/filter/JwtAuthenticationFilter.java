@@ -1,47 +1,78 @@
 package com.dasom.MemoReal.global.jwt.filter;
 
+import com.dasom.MemoReal.global.accesslog.RequestTimings;
 import com.dasom.MemoReal.global.jwt.provider.JwtTokenProvider;
+import com.dasom.MemoReal.global.security.principal.AuthUser;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 import org.springframework.web.filter.GenericFilterBean;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends GenericFilterBean {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final JwtTokenProvider jwtTokenProvider;
+    private final Timer extractTimer;
+
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, MeterRegistry meterRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.extractTimer = Timer.builder("jwt.extract").register(meterRegistry);
+    }
 
     @Override
     public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain) throws IOException, ServletException {
         // 1. Request Header에서 JWT 토큰 추출
+        long start = System.nanoTime();
         String token = resolveToken((HttpServletRequest) servletRequest);
+        extractTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
 
-        // 2. validateToken으로 토큰 유효성 검사
-        if (token != null && jwtTokenProvider.validateToken(token)) {
+        // 2. 토큰 검증과 Authentication 생성을 한 번의 파싱으로 처리 (검증된 토큰은 캐시 재사용)
+        // 앞 필터(스크레이프 토큰)에서 이미 인증했으면 JWT 로 파싱하지 않음
+        if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             // 토큰이 유효할 경우 토큰에서 Authentication 객체를 가지고 와서 SecurityContext에 저장
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+            Authentication authentication = jwtTokenProvider.resolveAuthentication(token);
+            if (authentication != null) {
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+                if (authentication.getPrincipal() instanceof AuthUser user) {
+                    RequestTimings.setPrincipal(user.id());
+                }
+            }
         }
+        // 접근 로그용. 이후 체인(컨트롤러 등) 시간은 빼고 이 필터에서 쓴 시간만
+        RequestTimings.addJwt(System.nanoTime() - start);
 
         filterChain.doFilter(servletRequest, servletResponse);
     }
 
     private String resolveToken(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer")) {
-            return bearerToken.substring(7);
+        return resolveBearerToken(request.getHeader("Authorization"));
+    }
+
+    // "Bearer <token>" 에서 토큰만 꺼냄. scheme 은 대소문자 무시, 뒤에는 공백 한 칸만 허용
+    // 헤더를 한 번 훑어서 검사한 뒤 토큰 부분만 한 번 잘라냄 (toLowerCase, trim, split 같은 중간 복사 없음)
+    public static String resolveBearerToken(String header) {
+        if (header == null || header.length() <= BEARER_PREFIX.length()
+                || !header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return null;
+        }
+        for (int i = BEARER_PREFIX.length(); i < header.length(); i++) {
+            // 토큰 안에 공백/제어문자가 있으면 형식 오류
+            if (header.charAt(i) <= ' ') {
+                return null;
+            }
         }
-        return null;
+        return header.substring(BEARER_PREFIX.length());
     }
 }
@@ -0,0 +1,72 @@
+package com.dasom.MemoReal.global.jwt.provider;
+
+import com.dasom.MemoReal.domain.user.entity.Role;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 토큰의 auth 클레임 문자열("USER,ADMIN") -> 공유 불변 권한 목록
+// 권한 조합은 몇 가지뿐이라 문자열 그대로 키로 써서 캐싱, Role 로만 이루어진 조합은 Role.authoritiesOf 의 목록을 그대로 재사용
+final class AuthorityInterner {
+
+    // 알 수 없는 권한 문자열이 섞인 토큰이 많이 들어와도 캐시가 무한히 커지지 않도록 상한
+    private static final int MAX_ENTRIES = 256;
+
+    private final ConcurrentHashMap<String, List<GrantedAuthority>> cache = new ConcurrentHashMap<>();
+
+    List<GrantedAuthority> intern(String joined) {
+        List<GrantedAuthority> authorities = cache.get(joined);
+        if (authorities != null) {
+            return authorities;
+        }
+        authorities = parse(joined);
+        if (cache.size() < MAX_ENTRIES) {
+            List<GrantedAuthority> existing = cache.putIfAbsent(joined, authorities);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        return authorities;
+    }
+
+    int size() {
+        return cache.size();
+    }
+
+    private static List<GrantedAuthority> parse(String joined) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        int mask = 0;
+        boolean rolesOnly = true;
+        int start = 0;
+        while (start <= joined.length()) {
+            int end = joined.indexOf(',', start);
+            if (end < 0) {
+                end = joined.length();
+            }
+            if (end > start) {
+                String name = joined.substring(start, end);
+                Role role = findRole(name);
+                if (role == null) {
+                    rolesOnly = false;
+                } else {
+                    mask |= role.getBit();
+                }
+                authorities.add(new SimpleGrantedAuthority(name));
+            }
+            start = end + 1;
+        }
+        return rolesOnly ? Role.authoritiesOf(mask) : List.copyOf(authorities);
+    }
+
+    private static Role findRole(String name) {
+        for (Role role : Role.values()) {
+            if (role.name().equals(name)) {
+                return role;
+            }
+        }
+        return null;
+    }
+}
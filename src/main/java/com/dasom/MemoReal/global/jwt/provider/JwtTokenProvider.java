@@ -1,63 +1,206 @@
 package com.dasom.MemoReal.global.jwt.provider;
 
+import com.dasom.MemoReal.global.exception.BusinessException;
+import com.dasom.MemoReal.global.exception.ErrorCode;
+import com.dasom.MemoReal.global.id.TsidFactory;
+import com.dasom.MemoReal.global.jwt.cache.VerifiedTokenCache;
 import com.dasom.MemoReal.global.jwt.dto.JwtTokenDTO;
+import com.dasom.MemoReal.global.jwt.revoke.TokenDenylist;
+import com.dasom.MemoReal.global.jwt.store.RefreshTokenStore;
+import com.dasom.MemoReal.global.logging.RateLimitedLogger;
+import com.dasom.MemoReal.global.security.principal.AuthUser;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 import lombok.extern.slf4j.Slf4j;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.event.Level;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
+    private static final String AUTHORITIES_KEY = "auth";
+    private static final String TOKEN_TYPE_KEY = "typ";
+    private static final String FAMILY_KEY = "fam";
+    // 사용자 id(36진수), 이메일. sub 는 기존처럼 username
+    private static final String USER_ID_KEY = "uid";
+    private static final String EMAIL_KEY = "email";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+
     private final Key key;
+    // JwtParser 는 불변이고 thread-safe 하므로 한 번만 만들어서 재사용
+    private final JwtParser jwtParser;
+    private final long accessTokenValidityMillis;
+    private final long refreshTokenValidityMillis;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenDenylist tokenDenylist;
+    private final AuthorityInterner authorityInterner = new AuthorityInterner();
+
+    // jwt.verify: 서명 검증 + 클레임 파싱 (jjwt 가 한 번의 parse 안에서 둘 다 처리하므로 함께 측정)
+    // jwt.authentication: 클레임 -> Authentication 생성
+    private final Timer verifyTimer;
+    private final Timer authenticationTimer;
+    private final Counter invalidTokenCounter;
+    private final Counter expiredTokenCounter;
+    private final Counter unsupportedTokenCounter;
+    private final Counter emptyTokenCounter;
+
+    // 잘못된 토큰이 몰려도 종류별로 10초에 한 번만, 스택 없이 기록
+    private final RateLimitedLogger invalidTokenLog = tokenLog();
+    private final RateLimitedLogger expiredTokenLog = tokenLog();
+    private final RateLimitedLogger unsupportedTokenLog = tokenLog();
+    private final RateLimitedLogger emptyTokenLog = tokenLog();
 
     // application.yml에서 secret 값 가져와서 key에 저장
-    public JwtTokenProvider(@Value("${JWT_SECRET}") String secretKey) {
+    public JwtTokenProvider(@Value("${JWT_SECRET}") String secretKey,
+                            @Value("${spring.jwt.access-token-validity-seconds:1800}") long accessTokenValiditySeconds,
+                            @Value("${spring.jwt.refresh-token-validity-seconds:1209600}") long refreshTokenValiditySeconds,
+                            VerifiedTokenCache verifiedTokenCache,
+                            RefreshTokenStore refreshTokenStore,
+                            TokenDenylist tokenDenylist,
+                            MeterRegistry meterRegistry) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parser()
+                .setSigningKey(key)
+                .build();
+        this.accessTokenValidityMillis = accessTokenValiditySeconds * 1000;
+        this.refreshTokenValidityMillis = refreshTokenValiditySeconds * 1000;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.refreshTokenStore = refreshTokenStore;
+        this.tokenDenylist = tokenDenylist;
+
+        this.verifyTimer = Timer.builder("jwt.verify").register(meterRegistry);
+        this.authenticationTimer = Timer.builder("jwt.authentication").register(meterRegistry);
+        this.invalidTokenCounter = failureCounter(meterRegistry, "invalid");
+        this.expiredTokenCounter = failureCounter(meterRegistry, "expired");
+        this.unsupportedTokenCounter = failureCounter(meterRegistry, "unsupported");
+        this.emptyTokenCounter = failureCounter(meterRegistry, "empty");
+        invalidTokenLog.register(meterRegistry, "invalid");
+        expiredTokenLog.register(meterRegistry, "expired");
+        unsupportedTokenLog.register(meterRegistry, "unsupported");
+        emptyTokenLog.register(meterRegistry, "empty");
+    }
+
+    private static RateLimitedLogger tokenLog() {
+        return new RateLimitedLogger(log, Level.INFO, Duration.ofSeconds(10));
+    }
+
+    private static Counter failureCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("jwt.validation.failures")
+                .tag("reason", reason)
+                .register(meterRegistry);
     }
 
     // Member 정보를 가지고 AccessToken, RefreshToken을 생성하는 메서드
+    // 로그인마다 새 리프레시 토큰 family 를 시작
     public JwtTokenDTO generateToken(Authentication authentication) {
         // 권한 가져오기
         String authorities = authentication.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(","));
 
-        long now = (new Date()).getTime();
+        long family = TsidFactory.next();
+        long refreshJti = TsidFactory.next();
+        long now = System.currentTimeMillis();
+        refreshTokenStore.issue(family, refreshJti, now + refreshTokenValidityMillis);
+        return createTokenPair(AuthUser.from(authentication), authorities, family, refreshJti, now);
+    }
+
+    // 리프레시 토큰으로 새 Access/Refresh 토큰 발급 (서명 검증만, 비밀번호 확인/DB 조회 없음)
+    // 사용된 리프레시 토큰은 폐기되고, 이미 폐기된 토큰이 다시 오면 family 전체를 무효화
+    // uid / email 클레임이 없는 (이전 버전에서 발급된) 리프레시 토큰은 다시 로그인해야 함
+    public JwtTokenDTO reissue(String refreshToken) {
+        Claims claims = refreshToken == null ? null : verifyClaims(refreshToken);
+        if (claims == null || !REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_KEY))
+                || claims.get(FAMILY_KEY) == null || claims.getId() == null || claims.get(AUTHORITIES_KEY) == null) {
+            throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+        AuthUser user = toAuthUser(claims);
+        if (user == null) {
+            throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
 
+        long family = decodeId(claims.get(FAMILY_KEY).toString());
+        long presentedJti = decodeId(claims.getId());
+        long newJti = TsidFactory.next();
+        long now = System.currentTimeMillis();
+        RefreshTokenStore.Rotation rotation = refreshTokenStore.rotate(family, presentedJti, newJti,
+                now + refreshTokenValidityMillis);
+        if (rotation == RefreshTokenStore.Rotation.UNKNOWN) {
+            // 재시작 / 축출로 상태를 잃은 family 는 재사용이 아니라 다시 로그인해야 하는 토큰
+            throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+        if (rotation == RefreshTokenStore.Rotation.REUSED) {
+            refreshTokenStore.revokeFamily(family);
+            log.warn("Refresh token reuse detected for {} (family {})", claims.getSubject(), family);
+            throw new BusinessException(ErrorCode.REFRESH_TOKEN_REUSED);
+        }
+        return createTokenPair(user, claims.get(AUTHORITIES_KEY).toString(), family, newJti, now);
+    }
+
+    // 로그아웃: Access Token 은 만료될 때까지 denylist 에 올리고, Refresh Token 은 family 전체를 무효화
+    public void revoke(String accessToken, String refreshToken) {
+        Claims access = accessToken == null ? null : verifyClaims(accessToken);
+        if (access != null && access.getId() != null && access.getExpiration() != null && !isRefreshToken(access)) {
+            tokenDenylist.revoke(access.getId(), access.getExpiration().getTime());
+            verifiedTokenCache.invalidate(accessToken);
+        }
+        Claims refresh = refreshToken == null ? null : verifyClaims(refreshToken);
+        if (refresh != null && isRefreshToken(refresh) && refresh.get(FAMILY_KEY) != null) {
+            refreshTokenStore.revokeFamily(decodeId(refresh.get(FAMILY_KEY).toString()));
+        }
+    }
+
+    private JwtTokenDTO createTokenPair(AuthUser user, String authorities, long family, long refreshJti, long now) {
+        String subject = user.username();
+        String userId = encodeId(user.id());
         // Access Token 생성
-        Date accessTokenExpiresIn = new Date(now + 86400000);
+        Date accessTokenExpiresIn = new Date(now + accessTokenValidityMillis);
         String accessToken = Jwts.builder()
-                .setSubject(authentication.getName())
-                .claim("auth", authorities)
+                .setSubject(subject)
+                .setId(encodeId(TsidFactory.next()))
+                .claim(USER_ID_KEY, userId)
+                .claim(EMAIL_KEY, user.email())
+                .claim(AUTHORITIES_KEY, authorities)
                 .setExpiration(accessTokenExpiresIn)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
 
-        // Refresh Token 생성
+        // Refresh Token 생성 (재발급에 필요한 사용자 정보, 권한을 담고 family/jti 로 회전 상태 추적)
         String refreshToken = Jwts.builder()
-                .setExpiration(new Date(now + 86400000))
+                .setSubject(subject)
+                .setId(encodeId(refreshJti))
+                .claim(USER_ID_KEY, userId)
+                .claim(EMAIL_KEY, user.email())
+                .claim(TOKEN_TYPE_KEY, REFRESH_TOKEN_TYPE)
+                .claim(FAMILY_KEY, encodeId(family))
+                .claim(AUTHORITIES_KEY, authorities)
+                .setExpiration(new Date(now + refreshTokenValidityMillis))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
 
@@ -68,55 +211,127 @@ public class JwtTokenProvider {
                 .build();
     }
 
+    // 필터에서 사용하는 메서드. 서명 검증과 클레임 파싱을 한 번에 끝내고 Authentication 까지 만들어 반환
+    // 이미 검증된 토큰이면 캐시에서 바로 꺼내고, 유효하지 않은 토큰이면 null
+    public Authentication resolveAuthentication(String accessToken) {
+        VerifiedTokenCache.Entry cached = verifiedTokenCache.get(accessToken);
+        if (cached != null) {
+            return tokenDenylist.isRevoked(cached.jti(), cached.tokenExpiresAt()) ? null : cached.authentication();
+        }
+
+        Claims claims = verifyClaims(accessToken);
+        if (claims == null || claims.get(AUTHORITIES_KEY) == null || isRefreshToken(claims)) {
+            return null;
+        }
+        if (claims.getExpiration() != null && tokenDenylist.isRevoked(claims.getId(), claims.getExpiration().getTime())) {
+            return null;
+        }
+
+        long start = System.nanoTime();
+        Authentication authentication = createAuthentication(claims);
+        authenticationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (authentication == null) {
+            return null;
+        }
+        if (claims.getExpiration() != null) {
+            verifiedTokenCache.put(accessToken, authentication, claims.getId(), claims.getExpiration().getTime());
+        }
+        return authentication;
+    }
+
     // Jwt 토큰을 복호화하여 토큰에 들어있는 정보를 꺼내는 메서드
     public Authentication getAuthentication(String accessToken) {
         // Jwt 토큰 복호화
         Claims claims = parseClaims(accessToken);
 
-        if (claims.get("auth") == null) {
+        if (claims.get(AUTHORITIES_KEY) == null || isRefreshToken(claims)) {
             throw new RuntimeException("권한 정보가 없는 토큰입니다.");
         }
 
-        // 클레임에서 권한 정보 가져오기
-        Collection<? extends GrantedAuthority> authorities = Arrays.stream(claims.get("auth").toString().split(","))
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
+        Authentication authentication = createAuthentication(claims);
+        if (authentication == null) {
+            throw new RuntimeException("사용자 정보가 없는 토큰입니다.");
+        }
+        return authentication;
+    }
+
+    private Authentication createAuthentication(Claims claims) {
+        // 클레임에서 권한 정보 가져오기. 같은 권한 문자열이면 항상 같은 불변 목록을 공유
+        Object auth = claims.get(AUTHORITIES_KEY);
+        List<GrantedAuthority> authorities = auth == null ? List.of() : authorityInterner.intern(auth.toString());
 
-        // UserDetails 객체를 만들어서 Authentication return
-        // UserDetails: interface, User: UserDetails를 구현한 class
-        UserDetails principal = new User(claims.getSubject(), "", authorities);
+        // 클레임만으로 principal 을 만들어서 Authentication return (DB 조회 없음)
+        // uid / email 이 없는 토큰(이전 버전에서 발급)은 인증하지 않음
+        AuthUser principal = toAuthUser(claims);
+        if (principal == null) {
+            return null;
+        }
         return new UsernamePasswordAuthenticationToken(principal, "", authorities);
     }
 
+    private static AuthUser toAuthUser(Claims claims) {
+        Object userId = claims.get(USER_ID_KEY);
+        Object email = claims.get(EMAIL_KEY);
+        if (userId == null || email == null || claims.getSubject() == null) {
+            return null;
+        }
+        try {
+            return new AuthUser(Long.parseLong(userId.toString(), 36), email.toString(), claims.getSubject());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     // 토큰 정보를 검증하는 메서드
     public boolean validateToken(String token) {
+        return verifyClaims(token) != null;
+    }
+
+    // 서명 검증 + 클레임 파싱. 유효하지 않은 토큰이면 null
+    private Claims verifyClaims(String token) {
+        long start = System.nanoTime();
         try {
-            Jwts.parser()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (SecurityException | MalformedJwtException e) {
-            log.info("Invalid JWT Token", e);
+            invalidTokenCounter.increment();
+            invalidTokenLog.log("Invalid JWT Token: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
-            log.info("Expired JWT Token", e);
+            expiredTokenCounter.increment();
+            expiredTokenLog.log("Expired JWT Token: {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
-            log.info("Unsupported JWT Token", e);
+            unsupportedTokenCounter.increment();
+            unsupportedTokenLog.log("Unsupported JWT Token: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
-            log.info("JWT claims string is empty.", e);
+            emptyTokenCounter.increment();
+            emptyTokenLog.log("JWT claims string is empty: {}", e.getMessage());
+        } finally {
+            verifyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
-        return false;
+        return null;
+    }
+
+
+    private static boolean isRefreshToken(Claims claims) {
+        return REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_KEY));
+    }
+
+    // family, jti 는 TSID 를 36진수 문자열로 담아서 토큰 길이를 줄임
+    private static String encodeId(long id) {
+        return Long.toString(id, 36);
     }
 
+    private static long decodeId(String value) {
+        try {
+            return Long.parseLong(value, 36);
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+    }
 
     // accessToken
     private Claims parseClaims(String accessToken) {
         try {
-            return Jwts.parser()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(accessToken)
-                    .getBody();
+            return jwtParser.parseClaimsJws(accessToken).getBody();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
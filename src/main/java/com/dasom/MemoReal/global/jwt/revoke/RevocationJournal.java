@@ -0,0 +1,99 @@
+package com.dasom.MemoReal.global.jwt.revoke;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.function.ObjLongConsumer;
+
+// 폐기된 토큰을 "jti 만료시각(ms)" 한 줄씩 로컬 파일에 덧붙여 재시작 후에도 유지
+// 폐기는 드물게 일어나므로 매번 flush 하고, 파일이 커지면 살아있는 항목만 남기고 다시 씀
+@Slf4j
+final class RevocationJournal {
+
+    private final Path path;
+    private BufferedWriter writer;
+    private long lines;
+
+    RevocationJournal(Path path) {
+        this.path = path;
+    }
+
+    synchronized void replay(ObjLongConsumer<String> consumer) {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try {
+            for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                int separator = line.indexOf(' ');
+                if (separator <= 0) {
+                    continue;
+                }
+                try {
+                    consumer.accept(line.substring(0, separator), Long.parseLong(line.substring(separator + 1).trim()));
+                } catch (NumberFormatException e) {
+                    log.warn("Skipping malformed revocation journal line: {}", line);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read revocation journal " + path, e);
+        }
+    }
+
+    synchronized void append(String jti, long expiresAt) {
+        try {
+            if (writer == null) {
+                if (path.getParent() != null) {
+                    Files.createDirectories(path.getParent());
+                }
+                writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            writer.write(jti);
+            writer.write(' ');
+            writer.write(Long.toString(expiresAt));
+            writer.newLine();
+            writer.flush();
+            lines++;
+        } catch (IOException e) {
+            log.error("Failed to append revocation of {} to {}", jti, path, e);
+        }
+    }
+
+    synchronized long lines() {
+        return lines;
+    }
+
+    // 살아있는 항목만으로 파일을 다시 씀 (임시 파일에 쓰고 교체)
+    synchronized void rewrite(Map<String, Long> live) {
+        try {
+            if (writer != null) {
+                writer.close();
+                writer = null;
+            }
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, Long> entry : live.entrySet()) {
+                    out.write(entry.getKey());
+                    out.write(' ');
+                    out.write(Long.toString(entry.getValue()));
+                    out.newLine();
+                }
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            lines = live.size();
+        } catch (IOException e) {
+            log.error("Failed to compact revocation journal {}", path, e);
+        }
+    }
+}
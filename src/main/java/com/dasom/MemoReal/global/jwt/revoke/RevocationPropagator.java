@@ -0,0 +1,9 @@
+package com.dasom.MemoReal.global.jwt.revoke;
+
+// 다른 인스턴스에 토큰 폐기를 전파하는 확장 지점 (Redis pub/sub, Kafka 등)
+// 구현체는 빈으로 등록하면 TokenDenylist 에 주입되고,
+// 다른 노드에서 받은 폐기 정보는 TokenDenylist.applyRemote 로 반영
+public interface RevocationPropagator {
+
+    void publish(String jti, long expiresAt);
+}
@@ -0,0 +1,164 @@
+package com.dasom.MemoReal.global.jwt.revoke;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// 로그아웃 등으로 폐기된 Access Token(jti) 목록
+// 토큰 만료 시각을 1분 단위 bucket 으로 묶어 링 버퍼에 보관하므로, 만료된 bucket 은 슬롯을 비우는 것만으로 통째로 삭제(O(1))
+// 조회는 배열 인덱스 + ConcurrentHashMap.contains 뿐이라 락도, 요청 경로에서의 할당도 없음
+@Slf4j
+@Component
+public class TokenDenylist implements MeterBinder {
+
+    private static final long BUCKET_MILLIS = 60_000;
+    private static final long COMPACT_MIN_LINES = 10_000;
+
+    private final AtomicReferenceArray<Bucket> ring;
+    private final RevocationJournal journal;
+    private RevocationPropagator propagator;
+
+    public TokenDenylist(@Value("${spring.jwt.access-token-validity-seconds:1800}") long maxTokenLifetimeSeconds,
+                         @Value("${spring.jwt.revocation.journal-path:}") String journalPath) {
+        // 가장 늦게 만료되는 토큰의 bucket 까지 겹치지 않고 담을 수 있는 크기
+        int slots = (int) (maxTokenLifetimeSeconds * 1000 / BUCKET_MILLIS) + 2;
+        this.ring = new AtomicReferenceArray<>(slots);
+        this.journal = StringUtils.hasText(journalPath) ? new RevocationJournal(Path.of(journalPath)) : null;
+        if (journal != null) {
+            journal.replay(this::add);
+            journal.rewrite(snapshot());
+            log.info("Loaded {} revoked tokens from {}", size(), journalPath);
+        }
+    }
+
+    @Autowired(required = false)
+    public void setPropagator(RevocationPropagator propagator) {
+        this.propagator = propagator;
+    }
+
+    // 요청마다 호출되는 경로
+    public boolean isRevoked(String jti, long expiresAt) {
+        if (jti == null) {
+            return false;
+        }
+        long bucketId = expiresAt / BUCKET_MILLIS;
+        Bucket bucket = ring.get(slot(bucketId));
+        return bucket != null && bucket.id == bucketId && bucket.jtis.contains(jti);
+    }
+
+    // 이 노드에서 발생한 폐기. 파일에 기록하고 다른 노드로 전파
+    public void revoke(String jti, long expiresAt) {
+        if (!add(jti, expiresAt)) {
+            return;
+        }
+        if (journal != null) {
+            journal.append(jti, expiresAt);
+        }
+        if (propagator != null) {
+            propagator.publish(jti, expiresAt);
+        }
+    }
+
+    // 다른 노드에서 전파받은 폐기. 다시 전파하지 않음
+    public void applyRemote(String jti, long expiresAt) {
+        if (add(jti, expiresAt) && journal != null) {
+            journal.append(jti, expiresAt);
+        }
+    }
+
+    // 만료 시각이 지난 bucket 을 통째로 버림
+    @Scheduled(fixedDelay = BUCKET_MILLIS)
+    public void dropExpired() {
+        long currentBucket = System.currentTimeMillis() / BUCKET_MILLIS;
+        for (int i = 0; i < ring.length(); i++) {
+            Bucket bucket = ring.get(i);
+            if (bucket != null && bucket.id < currentBucket) {
+                ring.compareAndSet(i, bucket, null);
+            }
+        }
+        if (journal != null && journal.lines() > COMPACT_MIN_LINES && journal.lines() > 2L * size()) {
+            journal.rewrite(snapshot());
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < ring.length(); i++) {
+            Bucket bucket = ring.get(i);
+            if (bucket != null) {
+                size += bucket.jtis.size();
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("jwt.denylist.size", this, TokenDenylist::size)
+                .register(registry);
+    }
+
+    private boolean add(String jti, long expiresAt) {
+        if (jti == null || expiresAt <= System.currentTimeMillis()) {
+            return false;
+        }
+        long bucketId = expiresAt / BUCKET_MILLIS;
+        int slot = slot(bucketId);
+        while (true) {
+            Bucket bucket = ring.get(slot);
+            if (bucket != null && bucket.id == bucketId) {
+                return bucket.jtis.add(jti);
+            }
+            if (bucket != null && bucket.id > bucketId) {
+                // 링 크기를 넘는 수명의 토큰. 설정된 Access Token 수명보다 길면 발생
+                log.warn("Token {} expires beyond the denylist window, ignoring", jti);
+                return false;
+            }
+            // 비어 있거나 이미 만료된 bucket 이면 새 bucket 으로 교체
+            Bucket created = new Bucket(bucketId);
+            created.jtis.add(jti);
+            if (ring.compareAndSet(slot, bucket, created)) {
+                return true;
+            }
+        }
+    }
+
+    private Map<String, Long> snapshot() {
+        Map<String, Long> live = new HashMap<>();
+        for (int i = 0; i < ring.length(); i++) {
+            Bucket bucket = ring.get(i);
+            if (bucket != null) {
+                // bucket 끝 시각을 만료 시각으로 기록 (실제 만료보다 최대 1분 늦음)
+                long expiresAt = (bucket.id + 1) * BUCKET_MILLIS - 1;
+                bucket.jtis.forEach(jti -> live.put(jti, expiresAt));
+            }
+        }
+        return live;
+    }
+
+    private int slot(long bucketId) {
+        return (int) (bucketId % ring.length());
+    }
+
+    private static final class Bucket {
+        final long id;
+        final Set<String> jtis = ConcurrentHashMap.newKeySet();
+
+        Bucket(long id) {
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.dasom.MemoReal.global.jwt.store;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 단일 인스턴스용 RefreshTokenStore. family 당 (jti, 만료 시각) long 두 개만 보관
+// 재시작하면 상태가 사라지므로 기존 리프레시 토큰은 거절되고 다시 로그인해야 함
+// family 수가 maxFamilies 를 넘으면 만료된 것부터, 그래도 넘으면 만료가 가까운 것부터 축출
+// (축출된 family 의 토큰은 재사용이 아니라 UNKNOWN 으로 거절되어 다시 로그인하면 됨)
+@Slf4j
+@Component
+public class InMemoryRefreshTokenStore implements RefreshTokenStore, MeterBinder {
+
+    private final Map<Long, Entry> families = new ConcurrentHashMap<>();
+    private final int maxFamilies;
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final AtomicLong evicted = new AtomicLong();
+
+    public InMemoryRefreshTokenStore(@Value("${spring.jwt.refresh.max-families:1000000}") int maxFamilies) {
+        this.maxFamilies = maxFamilies;
+    }
+
+    @Override
+    public void issue(long family, long jti, long expiresAt) {
+        families.put(family, new Entry(jti, expiresAt));
+        if (families.size() > maxFamilies) {
+            evict();
+        }
+    }
+
+    @Override
+    public Rotation rotate(long family, long presentedJti, long newJti, long newExpiresAt) {
+        long now = System.currentTimeMillis();
+        Rotation[] rotation = {Rotation.UNKNOWN};
+        families.computeIfPresent(family, (key, entry) -> {
+            if (entry.expiresAt() <= now) {
+                return entry;
+            }
+            if (entry.jti() != presentedJti) {
+                rotation[0] = Rotation.REUSED;
+                return entry;
+            }
+            rotation[0] = Rotation.ROTATED;
+            return new Entry(newJti, newExpiresAt);
+        });
+        return rotation[0];
+    }
+
+    @Override
+    public void revokeFamily(long family) {
+        families.remove(family);
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        families.values().removeIf(entry -> entry.expiresAt() <= now);
+    }
+
+    // 한 번에 한 스레드만. 만료된 것을 먼저 지우고, 그래도 넘으면 만료 시각 순으로 90% 까지 줄임
+    // 매 발급마다 정렬하지 않도록 여유를 두고 지움
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int before = families.size();
+            purgeExpired();
+            int target = maxFamilies - maxFamilies / 10;
+            if (families.size() > target) {
+                long[] expiresAt = families.values().stream().mapToLong(Entry::expiresAt).toArray();
+                Arrays.sort(expiresAt);
+                int excess = expiresAt.length - target;
+                if (excess > 0) {
+                    long threshold = expiresAt[excess - 1];
+                    families.values().removeIf(entry -> entry.expiresAt() <= threshold);
+                }
+            }
+            long removed = Math.max(0, before - families.size());
+            evicted.addAndGet(removed);
+            log.warn("Refresh token families exceeded {}; evicted {}", maxFamilies, removed);
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("jwt.refresh.families", families, Map::size)
+                .register(registry);
+        FunctionCounter.builder("jwt.refresh.families.evicted", evicted, AtomicLong::get)
+                .description("Refresh token families evicted because the store was full")
+                .register(registry);
+    }
+
+    private record Entry(long jti, long expiresAt) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.dasom.MemoReal.global.jwt.store;
+
+// 리프레시 토큰 회전(rotation) 상태 저장소
+// 로그인 한 번에 하나의 family 가 생기고, family 마다 현재 유효한 리프레시 토큰(jti) 하나만 기억
+// 여러 인스턴스가 상태를 공유해야 하면 Redis 등으로 구현한 빈을 @Primary 로 등록
+public interface RefreshTokenStore {
+
+    // 새 family 의 첫 리프레시 토큰 등록
+    void issue(long family, long jti, long expiresAt);
+
+    // 제시된 jti 가 family 의 현재 토큰일 때만 newJti 로 교체하고 ROTATED
+    // 이미 교체된(재사용된) 토큰이면 REUSED, 모르는(만료 / 축출 / 재시작으로 사라진) family 면 UNKNOWN
+    Rotation rotate(long family, long presentedJti, long newJti, long newExpiresAt);
+
+    // 재사용이 감지되거나 로그아웃 시 family 전체를 무효화
+    void revokeFamily(long family);
+
+    enum Rotation {
+        ROTATED, REUSED, UNKNOWN
+    }
+}
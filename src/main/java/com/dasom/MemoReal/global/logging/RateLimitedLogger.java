@@ -0,0 +1,70 @@
+package com.dasom.MemoReal.global.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 같은 종류의 로그를 interval 마다 한 번만 남기고 나머지는 개수만 셈
+// 잘못된 토큰 / 로그인 실패가 몰려도 로그 I/O 가 요청 처리 비용을 넘지 않도록 사용
+// 다음으로 남기는 로그에 그 사이 생략된 개수를 붙이고, register 하면 누적 개수를 log.suppressed 로 내보냄
+public final class RateLimitedLogger {
+
+    private final Logger log;
+    private final Level level;
+    private final long intervalNanos;
+    private final AtomicLong nextAllowedAt;
+    private final LongAdder suppressed = new LongAdder();
+    private final LongAdder suppressedTotal = new LongAdder();
+
+    public RateLimitedLogger(Logger log, Level level, Duration interval) {
+        this.log = log;
+        this.level = level;
+        this.intervalNanos = interval.toNanos();
+        this.nextAllowedAt = new AtomicLong(System.nanoTime());
+    }
+
+    public void log(String format, Object arg) {
+        log(format, arg, null);
+    }
+
+    public void log(String format, Object arg, Throwable cause) {
+        if (!log.isEnabledForLevel(level)) {
+            return;
+        }
+        if (!tryAcquire()) {
+            suppressed.increment();
+            suppressedTotal.increment();
+            return;
+        }
+        LoggingEventBuilder event = log.atLevel(level).setCause(cause).addArgument(arg);
+        long skipped = suppressed.sumThenReset();
+        if (skipped > 0) {
+            event.addArgument(skipped).log(format + " (suppressed {} similar messages)");
+        } else {
+            event.log(format);
+        }
+    }
+
+    // 생략된 로그 수를 log.suppressed{logger, kind} 카운터로 등록. 같은 Logger 를 쓰는 제한기는 kind 로 구분
+    public RateLimitedLogger register(MeterRegistry registry, String kind) {
+        FunctionCounter.builder("log.suppressed", suppressedTotal, LongAdder::sum)
+                .description("Log lines dropped by rate limiting")
+                .tag("logger", log.getName())
+                .tag("kind", kind)
+                .register(registry);
+        return this;
+    }
+
+    // interval 당 한 스레드만 통과
+    private boolean tryAcquire() {
+        long now = System.nanoTime();
+        long next = nextAllowedAt.get();
+        return now - next >= 0 && nextAllowedAt.compareAndSet(next, now + intervalNanos);
+    }
+}
@@ -0,0 +1,52 @@
+package com.dasom.MemoReal.global.ratelimit;
+
+import com.dasom.MemoReal.global.ratelimit.RateLimiter.Limit;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// /actuator/ratelimit : 규칙별 설정과 누적 통계
+// /actuator/ratelimit/{rule}/{key} : 특정 IP / 이메일의 남은 토큰 수
+@Component
+@Endpoint(id = "ratelimit")
+public class RateLimitEndpoint {
+
+    private final RateLimiter rateLimiter;
+
+    public RateLimitEndpoint(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @ReadOperation
+    public List<RuleStats> rules() {
+        List<RuleStats> stats = new ArrayList<>();
+        for (Limit limit : rateLimiter.getLimits()) {
+            RateLimitProperties.Rule rule = limit.rule();
+            TokenBucketTable table = limit.table();
+            stats.add(new RuleStats(rule.name(), rule.method(), rule.path(), rule.key().name(),
+                    rule.capacity(), rule.refillPerSecond(), table.size(),
+                    table.getAllowedCount(), table.getRejectedCount(), table.getOverflowCount()));
+        }
+        return stats;
+    }
+
+    @ReadOperation
+    public KeyStats key(@Selector String rule, @Selector String key) {
+        Limit limit = rateLimiter.find(rule);
+        if (limit == null) {
+            return null; // actuator 가 404 로 응답
+        }
+        return new KeyStats(rule, key, limit.table().availableTokens(key), limit.rule().capacity());
+    }
+
+    public record RuleStats(String name, String method, String path, String key, int capacity,
+                            double refillPerSecond, int trackedKeys, long allowed, long rejected, long overflow) {
+    }
+
+    public record KeyStats(String rule, String key, double availableTokens, int capacity) {
+    }
+}
@@ -0,0 +1,146 @@
+package com.dasom.MemoReal.global.ratelimit;
+
+import com.dasom.MemoReal.global.accesslog.RequestTimings;
+import com.dasom.MemoReal.global.exception.ErrorCode;
+import com.dasom.MemoReal.global.exception.ErrorResponses;
+import com.dasom.MemoReal.global.ratelimit.RateLimiter.Limit;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.GenericFilterBean;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Locale;
+
+// 인증 엔드포인트에 대한 클라이언트 IP / 대상 이메일별 요청 제한
+// JwtAuthenticationFilter 앞에서 실행되므로 초과 요청은 토큰 검증, BCrypt 까지 가지 않고 바로 429
+public class RateLimitFilter extends GenericFilterBean {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final RateLimiter rateLimiter;
+    private final ErrorResponses errorResponses;
+
+    public RateLimitFilter(RateLimiter rateLimiter, ErrorResponses errorResponses) {
+        this.rateLimiter = rateLimiter;
+        this.errorResponses = errorResponses;
+    }
+
+    @Override
+    public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain) throws IOException, ServletException {
+        HttpServletRequest request = (HttpServletRequest) servletRequest;
+        List<Limit> limits = rateLimiter.limitsFor(request);
+        if (limits.isEmpty()) {
+            filterChain.doFilter(servletRequest, servletResponse);
+            return;
+        }
+
+        String email = null;
+        for (Limit limit : limits) {
+            if (!limit.matches(request.getMethod())) {
+                continue;
+            }
+            String key;
+            if (limit.needsEmail()) {
+                if (!(request instanceof CachedBodyRequest)) {
+                    byte[] body = readBody(request);
+                    if (body == null) {
+                        reject((HttpServletResponse) servletResponse, ErrorCode.INVALID_INPUT_VALUE, 0);
+                        return;
+                    }
+                    request = new CachedBodyRequest(request, body);
+                    try {
+                        email = extractEmail(body);
+                    } catch (DuplicateEmailException e) {
+                        reject((HttpServletResponse) servletResponse, ErrorCode.INVALID_INPUT_VALUE, 0);
+                        return;
+                    }
+                }
+                key = email;
+            } else {
+                key = request.getRemoteAddr();
+            }
+            if (key == null) {
+                continue;
+            }
+            long waitMillis = limit.table().tryAcquire(key);
+            if (waitMillis > 0) {
+                reject((HttpServletResponse) servletResponse, ErrorCode.TOO_MANY_REQUESTS, waitMillis);
+                return;
+            }
+        }
+        filterChain.doFilter(request, servletResponse);
+    }
+
+    // 최대 크기를 넘는 본문은 null (이메일 제한을 큰 본문으로 우회하지 못하도록 거절)
+    private byte[] readBody(HttpServletRequest request) throws IOException {
+        int maxBodyBytes = rateLimiter.getMaxBodyBytes();
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            return null;
+        }
+        try (InputStream in = request.getInputStream()) {
+            byte[] body = in.readNBytes(maxBodyBytes + 1);
+            return body.length > maxBodyBytes ? null : body;
+        }
+    }
+
+    // {"email": "..."} 의 최상위 email 필드만 스트리밍으로 찾음
+    // email 이 두 번 나오면 Jackson 은 마지막 값으로 바인딩하므로, 앞의 값으로 제한을 걸면 다른 계정에 대입할 수 있음
+    // 어느 값이든 애매하므로 DuplicateEmailException (필터가 400 으로 거절)
+    static String extractEmail(byte[] body) {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            String email = null;
+            boolean found = false;
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                token = parser.nextToken();
+                if ("email".equals(field)) {
+                    if (found) {
+                        throw new DuplicateEmailException();
+                    }
+                    found = true;
+                    if (token == JsonToken.VALUE_STRING) {
+                        email = parser.getText().trim().toLowerCase(Locale.ROOT);
+                    }
+                }
+                parser.skipChildren();
+            }
+            return email;
+        } catch (IOException e) {
+            // 형식이 잘못된 본문은 컨트롤러에서 400 으로 처리되도록 통과시킴 (IP 제한은 그대로 적용)
+            return null;
+        }
+    }
+
+    static final class DuplicateEmailException extends RuntimeException {
+        DuplicateEmailException() {
+            super("Duplicate email field", null, false, false);
+        }
+    }
+
+    private void reject(HttpServletResponse response, ErrorCode code, long waitMillis) throws IOException {
+        byte[] body = errorResponses.body(code);
+        RequestTimings.setErrorCode(code);
+        response.setStatus(code.getHttpStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (waitMillis > 0) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((waitMillis + 999) / 1000));
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
@@ -0,0 +1,29 @@
+package com.dasom.MemoReal.global.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+// memoreal.rate-limit.* : 경로별 token bucket 규칙
+@ConfigurationProperties("memoreal.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        // 규칙 하나가 기억하는 최대 키 수. 넘으면 쉬고 있는 키부터 지우고, 그래도 넘으면 overflow 버킷을 공유
+        @DefaultValue("50000") int maxKeys,
+        @DefaultValue("64") int stripes,
+        // 이메일 키를 꺼내기 위해 읽는 요청 본문의 최대 크기
+        @DefaultValue("16384") int maxBodyBytes,
+        @DefaultValue List<Rule> rules
+) {
+
+    public enum KeyType {
+        IP,
+        EMAIL
+    }
+
+    // path 는 context path 를 뺀 디코딩된 요청 경로와 비교하는 PathPattern (예: /api/users/login, /api/admin/**)
+    // 한 요청에는 처음 일치한 path 의 규칙들만 적용, method 가 비어 있으면 모든 메서드
+    public record Rule(String name, String method, String path, KeyType key, int capacity, double refillPerSecond) {
+    }
+}
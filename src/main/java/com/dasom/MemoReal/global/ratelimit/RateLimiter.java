@@ -0,0 +1,134 @@
+package com.dasom.MemoReal.global.ratelimit;
+
+import com.dasom.MemoReal.global.ratelimit.RateLimitProperties.KeyType;
+import com.dasom.MemoReal.global.ratelimit.RateLimitProperties.Rule;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 설정된 규칙별 TokenBucketTable 을 들고 있고, 경로로 적용할 규칙을 찾아줌
+// 경로는 Spring MVC 가 라우팅에 쓰는 것과 같은 값(context path 제외, 디코딩, ; 이후 제거)으로 PathPattern 과 비교
+// 원본 URI 로 비교하면 /api/users/%6Cogin, /api/users/login;x 같은 요청이 규칙을 피해 컨트롤러까지 감
+@Component
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimiter implements MeterBinder {
+
+    private static final UrlPathHelper PATH_HELPER = new UrlPathHelper();
+
+    private final boolean enabled;
+    private final int maxBodyBytes;
+    private final List<Limit> limits = new ArrayList<>();
+    // 경로 패턴 -> 규칙. 규칙 수만큼만 비교
+    private final List<PathLimits> limitsByPath = new ArrayList<>();
+
+    public RateLimiter(RateLimitProperties properties) {
+        this.enabled = properties.enabled();
+        this.maxBodyBytes = properties.maxBodyBytes();
+        Map<String, List<Limit>> byPath = new LinkedHashMap<>();
+        for (Rule rule : properties.rules()) {
+            Limit limit = new Limit(rule, new TokenBucketTable(rule.capacity(), rule.refillPerSecond(),
+                    properties.maxKeys(), properties.stripes()));
+            limits.add(limit);
+            byPath.computeIfAbsent(rule.path(), path -> new ArrayList<>()).add(limit);
+        }
+        byPath.forEach((path, list) ->
+                limitsByPath.add(new PathLimits(PathPatternParser.defaultInstance.parse(path), List.copyOf(list))));
+    }
+
+    // 요청에 걸린 규칙. 없으면 빈 목록
+    public List<Limit> limitsFor(HttpServletRequest request) {
+        if (!enabled || limitsByPath.isEmpty()) {
+            return List.of();
+        }
+        return limitsFor(PATH_HELPER.getPathWithinApplication(request));
+    }
+
+    // 디코딩된, 애플리케이션 안에서의 경로 기준
+    public List<Limit> limitsFor(String path) {
+        if (!enabled) {
+            return List.of();
+        }
+        PathContainer container = PathContainer.parsePath(path);
+        for (PathLimits pathLimits : limitsByPath) {
+            if (pathLimits.pattern().matches(container)) {
+                return pathLimits.limits();
+            }
+        }
+        return List.of();
+    }
+
+    public List<Limit> getLimits() {
+        return limits;
+    }
+
+    public int getMaxBodyBytes() {
+        return maxBodyBytes;
+    }
+
+    public Limit find(String name) {
+        for (Limit limit : limits) {
+            if (limit.rule().name().equals(name)) {
+                return limit;
+            }
+        }
+        return null;
+    }
+
+    @Scheduled(fixedDelay = 10_000)
+    public void evictIdle() {
+        for (Limit limit : limits) {
+            limit.table().evictIdle();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Limit limit : limits) {
+            String name = limit.rule().name();
+            TokenBucketTable table = limit.table();
+            FunctionCounter.builder("ratelimit.requests", table, TokenBucketTable::getAllowedCount)
+                    .tag("rule", name)
+                    .tag("result", "allowed")
+                    .register(registry);
+            FunctionCounter.builder("ratelimit.requests", table, TokenBucketTable::getRejectedCount)
+                    .tag("rule", name)
+                    .tag("result", "rejected")
+                    .register(registry);
+            FunctionCounter.builder("ratelimit.overflow", table, TokenBucketTable::getOverflowCount)
+                    .tag("rule", name)
+                    .register(registry);
+            Gauge.builder("ratelimit.keys", table, TokenBucketTable::size)
+                    .tag("rule", name)
+                    .register(registry);
+        }
+    }
+
+    private record PathLimits(PathPattern pattern, List<Limit> limits) {
+    }
+
+    public record Limit(Rule rule, TokenBucketTable table) {
+
+        public boolean matches(String method) {
+            return !StringUtils.hasText(rule.method()) || rule.method().equalsIgnoreCase(method);
+        }
+
+        public boolean needsEmail() {
+            return rule.key() == KeyType.EMAIL;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.dasom.MemoReal.global.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 규칙 하나에 대한 키(IP, 이메일 등)별 token bucket 모음
+// 버킷 상태는 AtomicLong 하나에 (마지막 충전 시각 << 24 | 남은 토큰 x 1000) 으로 담아서 CAS 로만 갱신 (락, 요청당 할당 없음)
+// 키는 stripe 별 맵에 나눠 담고, stripe 가 가득 차면 충분히 쉬어서 가득 찬 버킷부터 지움
+// 그래도 자리가 없으면 새 키는 stripe 공용 overflow 버킷을 같이 씀 (키가 수백만 개여도 메모리는 maxKeys 로 고정)
+public class TokenBucketTable {
+
+    private static final long TOKEN_SCALE = 1000;
+    private static final int TOKEN_BITS = 24;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    static final long MAX_CAPACITY = TOKEN_MASK / TOKEN_SCALE;
+
+    private final long capacity;
+    private final double refillPerMilli;
+    // 빈 버킷이 다시 가득 차는 데 걸리는 시간. 이보다 오래 쉰 버킷은 지워도 결과가 같음
+    private final long idleMillis;
+    private final int maxKeysPerStripe;
+    private final Stripe[] stripes;
+    private final long epoch = System.currentTimeMillis();
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+
+    public TokenBucketTable(int capacity, double refillPerSecond, int maxKeys, int stripeCount) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity must be 1.." + MAX_CAPACITY + " and refill rate positive");
+        }
+        this.capacity = capacity * TOKEN_SCALE;
+        // 토큰 1개 = 1000 단위이므로 초당 r 개 충전 = ms 당 r 단위
+        this.refillPerMilli = refillPerSecond;
+        this.idleMillis = (long) Math.ceil(this.capacity / refillPerMilli);
+        int count = Integer.highestOneBit(Math.max(1, stripeCount - 1) << 1);
+        this.maxKeysPerStripe = Math.max(1, maxKeys / count);
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(pack(0, this.capacity));
+        }
+    }
+
+    // 토큰 하나를 꺼냄. 성공하면 0, 실패하면 다음 토큰까지 남은 시간(ms, 1 이상)
+    public long tryAcquire(String key) {
+        long now = System.currentTimeMillis() - epoch;
+        AtomicLong bucket = bucket(key, now);
+        while (true) {
+            long current = bucket.get();
+            long last = current >>> TOKEN_BITS;
+            long tokens = current & TOKEN_MASK;
+            long added = (long) (Math.max(0, now - last) * refillPerMilli);
+            long refilled = Math.min(capacity, tokens + added);
+            // 충전된 양이 0 이면 마지막 충전 시각을 그대로 둬서 조금씩 쌓이는 시간을 버리지 않음
+            long refilledAt = added > 0 ? now : last;
+            if (refilled < TOKEN_SCALE) {
+                rejected.increment();
+                return Math.max(1, (long) Math.ceil((TOKEN_SCALE - refilled) / refillPerMilli));
+            }
+            if (bucket.compareAndSet(current, pack(refilledAt, refilled - TOKEN_SCALE))) {
+                allowed.increment();
+                return 0;
+            }
+        }
+    }
+
+    // 키의 현재 남은 토큰 수 (조회용, 상태는 바꾸지 않음). 버킷이 없으면 가득 찬 것으로 봄
+    public double availableTokens(String key) {
+        AtomicLong bucket = stripe(key).buckets.get(key);
+        if (bucket == null) {
+            return capacity / (double) TOKEN_SCALE;
+        }
+        long current = bucket.get();
+        long now = System.currentTimeMillis() - epoch;
+        long added = (long) (Math.max(0, now - (current >>> TOKEN_BITS)) * refillPerMilli);
+        return Math.min(capacity, (current & TOKEN_MASK) + added) / (double) TOKEN_SCALE;
+    }
+
+    // 충분히 쉰(가득 찼을) 버킷 정리
+    public void evictIdle() {
+        long now = System.currentTimeMillis() - epoch;
+        for (Stripe stripe : stripes) {
+            stripe.evictIdle(now, idleMillis);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.buckets.size();
+        }
+        return size;
+    }
+
+    public long getAllowedCount() {
+        return allowed.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    // 자리가 없어서 overflow 버킷을 쓴 횟수
+    public long getOverflowCount() {
+        return overflowed.sum();
+    }
+
+    private AtomicLong bucket(String key, long now) {
+        Stripe stripe = stripe(key);
+        AtomicLong bucket = stripe.buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (stripe.buckets.size() >= maxKeysPerStripe) {
+            stripe.evictIdle(now, idleMillis);
+            if (stripe.buckets.size() >= maxKeysPerStripe) {
+                overflowed.increment();
+                return stripe.overflow;
+            }
+        }
+        AtomicLong created = new AtomicLong(pack(now, capacity));
+        AtomicLong existing = stripe.buckets.putIfAbsent(key, created);
+        return existing != null ? existing : created;
+    }
+
+    private Stripe stripe(String key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (stripes.length - 1)];
+    }
+
+    private static long pack(long refilledAt, long tokens) {
+        return (refilledAt << TOKEN_BITS) | tokens;
+    }
+
+    private static final class Stripe {
+        final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+        final AtomicLong overflow;
+        // 한 stripe 를 여러 스레드가 동시에 정리하지 않도록 한 스레드만 수행
+        final AtomicBoolean sweeping = new AtomicBoolean();
+
+        Stripe(long initial) {
+            this.overflow = new AtomicLong(initial);
+        }
+
+        void evictIdle(long now, long idleMillis) {
+            if (!sweeping.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                buckets.entrySet().removeIf(entry -> now - (entry.getValue().get() >>> TOKEN_BITS) >= idleMillis);
+            } finally {
+                sweeping.set(false);
+            }
+        }
+    }
+}
@@ -1,36 +1,71 @@
 package com.dasom.MemoReal.global.security;
 
 import com.dasom.MemoReal.domain.user.entity.User;
+import com.dasom.MemoReal.domain.user.filter.UserExistenceFilter;
 import com.dasom.MemoReal.domain.user.repository.UserRepository;
-import com.dasom.MemoReal.global.exception.CustomException;
+import com.dasom.MemoReal.global.exception.BusinessException;
 import com.dasom.MemoReal.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserExistenceFilter userExistenceFilter;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        // 필터에 없는 이메일은 DB 조회 없이 바로 거절
+        if (!userExistenceFilter.mightContainEmail(email)) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
         return userRepository.findByEmail(email)
                 .map(this::createUserDetails)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+                .orElseThrow(() -> {
+                    userExistenceFilter.recordEmailFalsePositive();
+                    return new BusinessException(ErrorCode.USER_NOT_FOUND);
+                });
+    }
+
+    // 로그인 성공 후 PasswordEncoder.upgradeEncoding 이 true 면 DaoAuthenticationProvider 가 호출
+    // user 는 loadUserByUsername 이 만든 객체이고 newPassword 는 현재 해싱 비용으로 다시 만든 해시
+    // 로그인 때 읽은 해시가 아직 DB 에 있을 때만 조건부 UPDATE 로 바꾸고, 2차 캐시는 이 사용자 엔트리만 지움
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User current = (User) user;
+        if (userRepository.updatePasswordIfUnchanged(current.getId(), current.getPassword(), newPassword) == 0) {
+            // 그 사이 비밀번호가 바뀐 경우. 다음 로그인 때 다시 시도됨
+            log.debug("Skipped password rehash for user {}", current.getId());
+            return user;
+        }
+        return User.builder()
+                .id(current.getId())
+                .email(current.getEmail())
+                .username(current.getUsername())
+                .password(newPassword)
+                .roleMask(current.getRoleMask())
+                .build();
     }
 
     // 해당하는 User 의 데이터가 존재한다면 UserDetails 객체로 만들어서 return
+    // 재해싱 때 대상 행을 찾고 토큰에 uid / email 을 담을 수 있도록 id, email 도 담음
     private UserDetails createUserDetails(User user) {
         return User.builder()
+                .id(user.getId())
+                .email(user.getEmail())
                 .username(user.getUsername())
                 .password(user.getPassword())
-                .roles(user.getRoles()) //  .roles(member.getRoles().toArray(new String[0])) 사용시 에러남 임시조치 ?
+                .roleMask(user.getRoleMask())
                 .build();
     }
 }
@@ -1,8 +1,24 @@
 package com.dasom.MemoReal.global.security.config;
 
+import com.dasom.MemoReal.domain.user.entity.Role;
+import com.dasom.MemoReal.global.concurrent.CpuBoundExecutor;
+import com.dasom.MemoReal.global.exception.ErrorResponses;
 import com.dasom.MemoReal.global.jwt.filter.JwtAuthenticationFilter;
 import com.dasom.MemoReal.global.jwt.provider.JwtTokenProvider;
+import com.dasom.MemoReal.global.ratelimit.RateLimitFilter;
+import com.dasom.MemoReal.global.ratelimit.RateLimiter;
+import com.dasom.MemoReal.global.security.filter.MetricsScrapeTokenFilter;
+import com.dasom.MemoReal.global.security.password.BulkheadPasswordEncoder;
+import com.dasom.MemoReal.global.security.password.CalibratedPasswordEncoder;
+import com.dasom.MemoReal.global.security.password.HashingParameters;
+import com.dasom.MemoReal.global.security.password.OffloadingPasswordEncoder;
+import com.dasom.MemoReal.global.security.password.PasswordHashCalibrator;
+import com.dasom.MemoReal.global.security.password.PasswordHashingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -10,19 +26,26 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+@Slf4j
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(PasswordHashingProperties.class)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final MeterRegistry meterRegistry;
+    private final RateLimiter rateLimiter;
+    private final ErrorResponses errorResponses;
 
+    // /actuator/prometheus 는 ADMIN 토큰이나 스크레이프 전용 토큰(memoreal.metrics.scrape-token)이 있어야 함
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity httpSecurity) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity httpSecurity,
+                                           @Value("${memoreal.metrics.scrape-token:}") String scrapeToken) throws Exception {
         return httpSecurity
                 .httpBasic(httpBasic -> httpBasic.disable())
                 .csrf(csrf -> csrf.disable())
@@ -34,11 +57,19 @@ public class SecurityConfig {
                                 "/v3/api-docs/**",
                                 "/swagger-resources/**",
                                 "/webjars/**",
+                                "/actuator/health",
                                 "/api/users/**"
                         ).permitAll()
+                        .requestMatchers("/api/admin/**", "/actuator/ratelimit/**").hasAuthority(Role.ADMIN.name())
+                        .requestMatchers(MetricsScrapeTokenFilter.PATH)
+                        .hasAnyAuthority(Role.ADMIN.name(), MetricsScrapeTokenFilter.AUTHORITY)
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, meterRegistry), UsernamePasswordAuthenticationFilter.class)
+                // 요청 제한은 토큰 검증보다 먼저
+                .addFilterBefore(new RateLimitFilter(rateLimiter, errorResponses), JwtAuthenticationFilter.class)
+                // 스크레이프 토큰으로 인증된 요청은 JWT 필터가 건너뜀
+                .addFilterBefore(new MetricsScrapeTokenFilter(scrapeToken), JwtAuthenticationFilter.class)
                 .build();
     }
 
@@ -47,9 +78,24 @@ public class SecurityConfig {
         return configuration.getAuthenticationManager();
     }
 
+    // 시작 시 측정한 비용으로 해싱하는 encoder 를 동시 실행 수 제한(bulkhead)으로 감싸서 로그인 폭주 시 다른 요청까지 막히지 않게 함
+    // permit 대기는 요청 스레드에서 하고, permit 을 얻은 뒤의 해싱만 CPU 풀로 넘김
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            PasswordHashingProperties hashingProperties,
+            CpuBoundExecutor cpuBoundExecutor,
+            @Value("${memoreal.hashing.max-concurrent:0}") int maxConcurrent,
+            @Value("${memoreal.hashing.max-queue:16}") int maxQueue,
+            @Value("${memoreal.hashing.max-wait-millis:200}") long maxWaitMillis,
+            @Value("${memoreal.hashing.retry-after-seconds:1}") long retryAfterSeconds) {
+        int concurrency = maxConcurrent > 0 ? maxConcurrent : Runtime.getRuntime().availableProcessors();
+        HashingParameters parameters = PasswordHashCalibrator.calibrate(hashingProperties);
+        log.info("Password hashing: {} (target {}ms, ~{} hashes/s with {} permits)", parameters,
+                hashingProperties.targetMillis(), Math.round(concurrency * 1000 / parameters.estimatedMillis()), concurrency);
+        CalibratedPasswordEncoder encoder = new CalibratedPasswordEncoder(parameters, hashingProperties.rehashOnLogin(),
+                hashingProperties.rehashTolerance(), meterRegistry);
+        return new BulkheadPasswordEncoder(new OffloadingPasswordEncoder(encoder, cpuBoundExecutor), concurrency, maxQueue,
+                maxWaitMillis, retryAfterSeconds, meterRegistry);
     }
 
 
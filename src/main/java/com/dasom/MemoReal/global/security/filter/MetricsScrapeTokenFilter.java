@@ -0,0 +1,49 @@
+package com.dasom.MemoReal.global.security.filter;
+
+import com.dasom.MemoReal.global.jwt.filter.JwtAuthenticationFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.GenericFilterBean;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+// Prometheus 스크레이프 전용 자격 증명
+// /actuator/prometheus 요청이 "Bearer <memoreal.metrics.scrape-token>" 을 보내면 METRICS_SCRAPE 권한만 부여
+// 다른 경로에서는 아무것도 하지 않으므로 이 토큰으로 API 를 호출할 수는 없음. 토큰이 비어 있으면 ADMIN 만 접근 가능
+public class MetricsScrapeTokenFilter extends GenericFilterBean {
+
+    public static final String AUTHORITY = "METRICS_SCRAPE";
+    public static final String PATH = "/actuator/prometheus";
+
+    private static final UrlPathHelper PATH_HELPER = new UrlPathHelper();
+
+    private final byte[] scrapeToken;
+
+    public MetricsScrapeTokenFilter(String scrapeToken) {
+        this.scrapeToken = scrapeToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain) throws IOException, ServletException {
+        HttpServletRequest request = (HttpServletRequest) servletRequest;
+        if (scrapeToken.length > 0 && PATH.equals(PATH_HELPER.getPathWithinApplication(request))) {
+            String token = JwtAuthenticationFilter.resolveBearerToken(request.getHeader("Authorization"));
+            // 길이 차이 외에는 비교 시간으로 토큰을 알아낼 수 없도록 상수 시간 비교
+            if (token != null && MessageDigest.isEqual(scrapeToken, token.getBytes(StandardCharsets.UTF_8))) {
+                SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                        "prometheus", null, List.of(new SimpleGrantedAuthority(AUTHORITY))));
+            }
+        }
+        filterChain.doFilter(servletRequest, servletResponse);
+    }
+}
@@ -0,0 +1,128 @@
+package com.dasom.MemoReal.global.security.password;
+
+import com.dasom.MemoReal.global.accesslog.RequestTimings;
+import com.dasom.MemoReal.global.exception.ErrorCode;
+import com.dasom.MemoReal.global.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// 해싱(BCrypt) 동시 실행 수를 제한하는 PasswordEncoder 래퍼
+// 동시 실행 수(maxConcurrent)를 넘으면 최대 maxQueue 개까지 maxWaitMillis 동안 대기하고,
+// 대기열이 꽉 찼거나 대기 시간을 넘기면 바로 429(TOO_MANY_HASHING_REQUESTS)로 거절
+public class BulkheadPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final long maxWaitMillis;
+    private final long retryAfterSeconds;
+
+    private final Timer waitTimer;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public BulkheadPasswordEncoder(PasswordEncoder delegate, int maxConcurrent, int maxQueue,
+                                   long maxWaitMillis, long retryAfterSeconds, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueue = maxQueue;
+        this.maxWaitMillis = maxWaitMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        this.waitTimer = Timer.builder("auth.hashing.wait")
+                .description("Time spent waiting for a hashing permit")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("auth.password.encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password.matches")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.hashing.rejected")
+                .description("Hashing requests rejected by the bulkhead")
+                .register(meterRegistry);
+        Gauge.builder("auth.hashing.queue.depth", waiting, AtomicInteger::get)
+                .register(meterRegistry);
+        Gauge.builder("auth.hashing.active", permits, p -> maxConcurrent - p.availablePermits())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getQueueDepth() {
+        return waiting.get();
+    }
+
+    // 대기 시간은 auth.hashing.wait, 실제 해싱 시간은 timer 로 따로 기록
+    // 접근 로그의 해싱 시간에는 대기 시간도 포함 (요청 입장에서는 둘 다 해싱 때문에 쓴 시간)
+    private <T> T execute(Timer timer, Supplier<T> task) {
+        long requested = System.nanoTime();
+        acquire();
+        long start = System.nanoTime();
+        try {
+            return task.get();
+        } finally {
+            long end = System.nanoTime();
+            timer.record(end - start, TimeUnit.NANOSECONDS);
+            RequestTimings.addHashing(end - requested);
+            permits.release();
+        }
+    }
+
+    private void acquire() {
+        try {
+            // 공정 세마포어라 대기 중인 요청이 있으면 새 요청이 끼어들지 않음
+            if (permits.tryAcquire(0, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+            if (waiting.incrementAndGet() > maxQueue) {
+                waiting.decrementAndGet();
+                throw reject();
+            }
+            long start = System.nanoTime();
+            try {
+                if (!permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+                    throw reject();
+                }
+            } finally {
+                waiting.decrementAndGet();
+                waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject();
+        }
+    }
+
+    private TooManyRequestsException reject() {
+        rejectedCounter.increment();
+        return new TooManyRequestsException(ErrorCode.TOO_MANY_HASHING_REQUESTS, retryAfterSeconds);
+    }
+}
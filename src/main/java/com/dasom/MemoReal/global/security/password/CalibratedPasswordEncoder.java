@@ -0,0 +1,140 @@
+package com.dasom.MemoReal.global.security.password;
+
+import com.dasom.MemoReal.global.security.password.PasswordHashingProperties.HashingAlgorithm;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+
+// 측정으로 고른 비용(HashingParameters)으로 해싱하는 DelegatingPasswordEncoder 래퍼
+// 새 해시는 {bcrypt} / {argon2} 접두사를 붙여 저장하고, 접두사 없는 기존 BCrypt 해시도 그대로 검증함
+// upgradeEncoding 이 true 면 로그인 성공 시 DaoAuthenticationProvider 가 현재 비용으로 다시 해싱해서
+// UserDetailsPasswordService 로 저장함 (비용을 올린 경우뿐 아니라 내린 경우에도)
+public class CalibratedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final HashingParameters parameters;
+    private final boolean rehashOnLogin;
+    private final double rehashTolerance;
+
+    private final Counter legacyRehash;
+    private final Counter algorithmRehash;
+    private final Counter costRehash;
+
+    public CalibratedPasswordEncoder(HashingParameters parameters, boolean rehashOnLogin, double rehashTolerance,
+                                     MeterRegistry meterRegistry) {
+        this.parameters = parameters;
+        this.rehashOnLogin = rehashOnLogin;
+        this.rehashTolerance = rehashTolerance;
+
+        PasswordEncoder bcrypt = parameters.algorithm() == HashingAlgorithm.BCRYPT
+                ? new BCryptPasswordEncoder(parameters.strength())
+                : new BCryptPasswordEncoder();
+        // 검증은 해시에 적힌 비용으로 하므로 현재 알고리즘이 아닌 쪽은 기본값 인스턴스로 충분
+        PasswordEncoder argon2 = parameters.algorithm() == HashingAlgorithm.ARGON2ID
+                ? PasswordHashCalibrator.argon2Encoder(parameters.memoryKib(), parameters.iterations(), parameters.parallelism())
+                : Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8();
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(parameters.algorithm().id(), Map.of(
+                HashingAlgorithm.BCRYPT.id(), bcrypt,
+                HashingAlgorithm.ARGON2ID.id(), argon2));
+        // 접두사가 없는 해시는 이 클래스 이전에 저장된 BCrypt 해시
+        delegating.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        this.delegate = delegating;
+
+        this.legacyRehash = rehashCounter(meterRegistry, "legacy");
+        this.algorithmRehash = rehashCounter(meterRegistry, "algorithm");
+        this.costRehash = rehashCounter(meterRegistry, "cost");
+        // 현재 선택된 비용을 노출 (알고리즘에 해당하지 않는 항목은 0)
+        String algorithm = parameters.algorithm().id();
+        Gauge.builder("auth.password.cost", parameters, HashingParameters::strength)
+                .tag("algorithm", algorithm).tag("param", "strength").register(meterRegistry);
+        Gauge.builder("auth.password.cost", parameters, HashingParameters::memoryKib)
+                .tag("algorithm", algorithm).tag("param", "memory_kib").register(meterRegistry);
+        Gauge.builder("auth.password.cost", parameters, HashingParameters::iterations)
+                .tag("algorithm", algorithm).tag("param", "iterations").register(meterRegistry);
+        Gauge.builder("auth.password.cost", parameters, HashingParameters::parallelism)
+                .tag("algorithm", algorithm).tag("param", "parallelism").register(meterRegistry);
+        Gauge.builder("auth.password.hash.estimated", parameters, p -> p.estimatedMillis() / 1000.0)
+                .tag("algorithm", algorithm).baseUnit("seconds").register(meterRegistry);
+    }
+
+    private static Counter rehashCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("auth.password.rehash")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    public HashingParameters getParameters() {
+        return parameters;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (!rehashOnLogin || encodedPassword == null) {
+            return false;
+        }
+        if (!encodedPassword.startsWith("{")) {
+            legacyRehash.increment();
+            return true;
+        }
+        HashingParameters stored = parse(encodedPassword);
+        if (stored == null || stored.algorithm() != parameters.algorithm()) {
+            algorithmRehash.increment();
+            return true;
+        }
+        double ratio = stored.work() / parameters.work();
+        if (ratio > rehashTolerance || ratio < 1 / rehashTolerance) {
+            costRehash.increment();
+            return true;
+        }
+        return false;
+    }
+
+    // {bcrypt}$2a$12$... / {argon2}$argon2id$v=19$m=65536,t=3,p=1$... 에서 비용만 읽음. 모르는 형식이면 null
+    static HashingParameters parse(String encodedPassword) {
+        int end = encodedPassword.indexOf('}');
+        if (end < 0) {
+            return null;
+        }
+        String id = encodedPassword.substring(1, end);
+        String hash = encodedPassword.substring(end + 1);
+        try {
+            if (HashingAlgorithm.BCRYPT.id().equals(id) && hash.length() > 7 && hash.charAt(0) == '$') {
+                return HashingParameters.bcrypt(Integer.parseInt(hash.substring(4, 6)), 0);
+            }
+            if (HashingAlgorithm.ARGON2ID.id().equals(id) && hash.startsWith("$argon2id$")) {
+                String[] parts = hash.split("\\$");
+                int memory = 0, iterations = 0, parallelism = 0;
+                for (String param : parts[3].split(",")) {
+                    int value = Integer.parseInt(param.substring(2));
+                    switch (param.charAt(0)) {
+                        case 'm' -> memory = value;
+                        case 't' -> iterations = value;
+                        case 'p' -> parallelism = value;
+                        default -> {
+                        }
+                    }
+                }
+                return HashingParameters.argon2(memory, iterations, parallelism, 0);
+            }
+        } catch (RuntimeException e) {
+            return null;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,30 @@
+package com.dasom.MemoReal.global.security.password;
+
+import com.dasom.MemoReal.global.security.password.PasswordHashingProperties.HashingAlgorithm;
+
+// 새 해시에 사용할 비용. bcrypt 는 strength, argon2id 는 memoryKib / iterations / parallelism 만 의미가 있음
+// estimatedMillis 는 이 비용으로 해시 한 번에 걸릴 것으로 예상되는 시간 (시작 시 측정 기반)
+public record HashingParameters(HashingAlgorithm algorithm, int strength, int memoryKib, int iterations,
+                                int parallelism, double estimatedMillis) {
+
+    static HashingParameters bcrypt(int strength, double estimatedMillis) {
+        return new HashingParameters(HashingAlgorithm.BCRYPT, strength, 0, 0, 0, estimatedMillis);
+    }
+
+    static HashingParameters argon2(int memoryKib, int iterations, int parallelism, double estimatedMillis) {
+        return new HashingParameters(HashingAlgorithm.ARGON2ID, 0, memoryKib, iterations, parallelism, estimatedMillis);
+    }
+
+    // 해시 한 번의 상대적인 작업량. 같은 알고리즘끼리만 비교 가능
+    // bcrypt 는 2^strength, argon2 는 메모리 x 반복 횟수에 비례
+    double work() {
+        return algorithm == HashingAlgorithm.BCRYPT ? Math.pow(2, strength) : (double) memoryKib * iterations;
+    }
+
+    @Override
+    public String toString() {
+        return algorithm == HashingAlgorithm.BCRYPT
+                ? String.format("bcrypt(strength=%d, ~%.1fms)", strength, estimatedMillis)
+                : String.format("argon2id(m=%dKiB, t=%d, p=%d, ~%.1fms)", memoryKib, iterations, parallelism, estimatedMillis);
+    }
+}
@@ -0,0 +1,33 @@
+package com.dasom.MemoReal.global.security.password;
+
+import com.dasom.MemoReal.global.concurrent.CpuBoundExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+// 해싱(encode / matches)만 CpuBoundExecutor 로 넘기는 PasswordEncoder 래퍼
+// 로그인 시 사용자 조회 같은 I/O 는 요청(가상) 스레드에 남기고, CPU 를 쓰는 부분만 플랫폼 스레드 풀에서 실행
+public class OffloadingPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final CpuBoundExecutor cpuBoundExecutor;
+
+    public OffloadingPasswordEncoder(PasswordEncoder delegate, CpuBoundExecutor cpuBoundExecutor) {
+        this.delegate = delegate;
+        this.cpuBoundExecutor = cpuBoundExecutor;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return cpuBoundExecutor.call(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return cpuBoundExecutor.call(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // 해시 문자열만 보고 판단하므로 넘기지 않음
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,73 @@
+package com.dasom.MemoReal.global.security.password;
+
+import com.dasom.MemoReal.global.security.password.PasswordHashingProperties.Argon2;
+import com.dasom.MemoReal.global.security.password.PasswordHashingProperties.Bcrypt;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Arrays;
+
+// 시작 시 이 장비에서 해시 시간을 재서 목표 시간(target-millis)에 맞는 비용을 고름
+// 가장 낮은 비용에서만 측정하고 나머지는 비용에 비례한다고 보고 추정 (높은 비용으로 여러 번 재면 시작이 느려짐)
+public final class PasswordHashCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-password!";
+    static final int ARGON2_SALT_LENGTH = 16;
+    static final int ARGON2_HASH_LENGTH = 32;
+
+    private PasswordHashCalibrator() {
+    }
+
+    public static HashingParameters calibrate(PasswordHashingProperties properties) {
+        return switch (properties.algorithm()) {
+            case BCRYPT -> calibrateBcrypt(properties.bcrypt(), properties.targetMillis(), properties.calibrationSamples());
+            case ARGON2ID -> calibrateArgon2(properties.argon2(), properties.targetMillis(), properties.calibrationSamples());
+        };
+    }
+
+    static HashingParameters calibrateBcrypt(Bcrypt bcrypt, double targetMillis, int samples) {
+        if (bcrypt.strength() > 0) {
+            return HashingParameters.bcrypt(bcrypt.strength(),
+                    measureMillis(new BCryptPasswordEncoder(bcrypt.strength()), samples));
+        }
+        double baseMillis = measureMillis(new BCryptPasswordEncoder(bcrypt.minStrength()), samples);
+        // strength 1 당 2배이므로 log2(목표 / 측정값) 만큼 올림 (반올림해서 목표에 가장 가까운 값)
+        int steps = (int) Math.round(Math.log(targetMillis / baseMillis) / Math.log(2));
+        int strength = Math.max(bcrypt.minStrength(), Math.min(bcrypt.maxStrength(), bcrypt.minStrength() + steps));
+        return HashingParameters.bcrypt(strength, baseMillis * Math.pow(2, strength - bcrypt.minStrength()));
+    }
+
+    static HashingParameters calibrateArgon2(Argon2 argon2, double targetMillis, int samples) {
+        if (argon2.memoryKib() > 0) {
+            return HashingParameters.argon2(argon2.memoryKib(), argon2.iterations(), argon2.parallelism(),
+                    measureMillis(argon2Encoder(argon2.memoryKib(), argon2.iterations(), argon2.parallelism()), samples));
+        }
+        double baseMillis = measureMillis(argon2Encoder(argon2.minMemoryKib(), argon2.iterations(), argon2.parallelism()), samples);
+        // 시간은 메모리에 거의 비례하므로 먼저 메모리를 늘리고 (1 MiB 단위), 최대 메모리로도 부족하면 반복 횟수를 늘림
+        double scale = targetMillis / baseMillis;
+        int memoryKib = (int) Math.round(argon2.minMemoryKib() * scale / 1024) * 1024;
+        memoryKib = Math.max(argon2.minMemoryKib(), Math.min(argon2.maxMemoryKib(), memoryKib));
+        double memoryScale = (double) memoryKib / argon2.minMemoryKib();
+        int iterations = Math.max(argon2.iterations(), (int) Math.round(argon2.iterations() * scale / memoryScale));
+        double estimatedMillis = baseMillis * memoryScale * iterations / argon2.iterations();
+        return HashingParameters.argon2(memoryKib, iterations, argon2.parallelism(), estimatedMillis);
+    }
+
+    static Argon2PasswordEncoder argon2Encoder(int memoryKib, int iterations, int parallelism) {
+        return new Argon2PasswordEncoder(ARGON2_SALT_LENGTH, ARGON2_HASH_LENGTH, parallelism, memoryKib, iterations);
+    }
+
+    // 한 번 워밍업 후 samples 번 재서 중앙값(ms)
+    private static double measureMillis(PasswordEncoder encoder, int samples) {
+        encoder.encode(SAMPLE_PASSWORD);
+        long[] nanos = new long[Math.max(1, samples)];
+        for (int i = 0; i < nanos.length; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos[nanos.length / 2] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,55 @@
+package com.dasom.MemoReal.global.security.password;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// memoreal.password.* : 비밀번호 해싱 알고리즘과 목표 지연 시간
+// 해시 한 번의 시간이 곧 노드당 로그인 처리량(코어 수 / 해시 시간)을 정하므로, 보안 여유와 처리량을 target-millis 로 조절
+@ConfigurationProperties("memoreal.password")
+public record PasswordHashingProperties(
+        @DefaultValue("BCRYPT") HashingAlgorithm algorithm,
+        // 시작 시 측정해서 해시 한 번이 이 시간에 가장 가깝도록 비용을 고름
+        @DefaultValue("50") double targetMillis,
+        @DefaultValue("5") int calibrationSamples,
+        // 로그인 성공 시 저장된 해시의 알고리즘/비용이 현재 설정과 다르면 다시 해싱해서 저장
+        @DefaultValue("true") boolean rehashOnLogin,
+        // 저장된 해시의 예상 비용이 현재 비용의 1/n ~ n 배 안이면 그대로 둠
+        // (노드마다 측정값이 조금 달라도 로그인할 때마다 해시가 바뀌지 않도록)
+        @DefaultValue("2") double rehashTolerance,
+        @DefaultValue Bcrypt bcrypt,
+        @DefaultValue Argon2 argon2
+) {
+
+    public enum HashingAlgorithm {
+        BCRYPT("bcrypt"),
+        ARGON2ID("argon2");
+
+        // DelegatingPasswordEncoder 의 {id} 접두사
+        private final String id;
+
+        HashingAlgorithm(String id) {
+            this.id = id;
+        }
+
+        public String id() {
+            return id;
+        }
+    }
+
+    // strength 가 0 이면 min ~ max 사이에서 측정으로 결정 (1 올릴 때마다 시간 2배)
+    public record Bcrypt(
+            @DefaultValue("0") int strength,
+            @DefaultValue("10") int minStrength,
+            @DefaultValue("16") int maxStrength) {
+    }
+
+    // memory-kib 가 0 이면 min ~ max 사이에서 메모리 비용을 측정으로 결정하고,
+    // 최대 메모리로도 목표 시간에 못 미치면 iterations 를 늘림
+    public record Argon2(
+            @DefaultValue("0") int memoryKib,
+            @DefaultValue("19456") int minMemoryKib, // OWASP 최소 권장값 (19 MiB, t=2, p=1)
+            @DefaultValue("262144") int maxMemoryKib,
+            @DefaultValue("2") int iterations,
+            @DefaultValue("1") int parallelism) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.dasom.MemoReal.global.security.principal;
+
+import com.dasom.MemoReal.domain.user.entity.User;
+import org.springframework.security.core.Authentication;
+
+import java.io.Serializable;
+import java.security.Principal;
+
+// JWT 클레임(sub, uid, email)만으로 만드는 인증된 사용자 정보
+// 요청마다 DB 를 조회하지 않고 id / email 을 바로 쓸 수 있음. 토큰을 발급할 때의 값이므로 최신이 아닐 수 있음
+public record AuthUser(long id, String email, String username) implements Principal, Serializable {
+
+    // authentication.getName() 은 기존처럼 username
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    // 로그인 직후(DaoAuthenticationProvider 의 principal 은 CustomUserDetailsService 가 만든 User) 또는 토큰에서 만든 Authentication
+    public static AuthUser from(Authentication authentication) {
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof AuthUser authUser) {
+            return authUser;
+        }
+        if (principal instanceof User user && user.getId() != null) {
+            return new AuthUser(user.getId(), user.getEmail(), user.getUsername());
+        }
+        throw new IllegalArgumentException("Unsupported principal type: "
+                + (principal == null ? null : principal.getClass().getName()));
+    }
+}
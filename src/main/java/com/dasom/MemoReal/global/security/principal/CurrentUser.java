@@ -0,0 +1,14 @@
+package com.dasom.MemoReal.global.security.principal;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 컨트롤러 파라미터에 현재 로그인한 사용자(AuthUser)를 주입
+// required = true 인데 인증되지 않은 요청이면 401, false 면 null
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUser {
+    boolean required() default true;
+}
@@ -1,5 +1,8 @@
 package com.dasom.MemoReal.global.security.util;
 
+import com.dasom.MemoReal.global.exception.BusinessException;
+import com.dasom.MemoReal.global.exception.ErrorCode;
+import com.dasom.MemoReal.global.security.principal.AuthUser;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
@@ -11,4 +14,22 @@ public class SecurityUtil {
         }
         return authentication.getName();
     }
+
+    // 현재 요청의 인증된 사용자. 토큰으로 인증되지 않은 요청(익명 포함)이면 401
+    public static AuthUser getCurrentUser() {
+        AuthUser user = findCurrentUser();
+        if (user == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        return user;
+    }
+
+    // 토큰으로 인증되지 않은 요청이면 null
+    public static AuthUser findCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthUser user) {
+            return user;
+        }
+        return null;
+    }
 }
@@ -0,0 +1,76 @@
+package com.dasom.MemoReal.global.swagger;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.time.Duration;
+
+// 런타임 스캔(springdoc api-docs)을 끈 환경(운영)에서 빌드 때 만든 OpenAPI 문서를 그대로 내려줌
+// 문서는 배포마다만 바뀌므로 내용 해시로 strong ETag 를 붙이고 오래 캐시. 바뀌었는지는 If-None-Match 로 304 확인
+// gzip 을 받는 클라이언트에는 미리 압축해 둔 파일을 보냄 (인코딩마다 ETag 가 다름)
+@Slf4j
+@Hidden
+@RestController
+@ConditionalOnProperty(name = "springdoc.api-docs.enabled", havingValue = "false")
+public class OpenApiSpecController {
+
+    private static final String SPEC_PATH = "openapi/openapi.json";
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(1)).cachePublic();
+
+    private final byte[] spec;
+    private final byte[] gzippedSpec;
+    private final String etag;
+    private final String gzipEtag;
+
+    public OpenApiSpecController() {
+        this.spec = read(SPEC_PATH);
+        this.gzippedSpec = read(SPEC_PATH + ".gz");
+        String hash = spec != null ? DigestUtils.md5DigestAsHex(spec) : "";
+        this.etag = "\"" + hash + "\"";
+        this.gzipEtag = "\"" + hash + "-gzip\"";
+        if (spec == null) {
+            log.warn("{} is not packaged; /v3/api-docs will return 404 (run ./gradlew bootJar)", SPEC_PATH);
+        }
+    }
+
+    // ETag 가 설정된 ResponseEntity 는 Spring 이 If-None-Match 를 확인해서 304 로 바꿔줌
+    @GetMapping(value = "/v3/api-docs", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> spec(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (spec == null) {
+            return ResponseEntity.notFound().build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(CACHE_CONTROL)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzippedSpec != null && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return response.eTag(gzipEtag)
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(gzippedSpec);
+        }
+        return response.eTag(etag).body(spec);
+    }
+
+    private static byte[] read(String path) {
+        ClassPathResource resource = new ClassPathResource(path);
+        if (!resource.exists()) {
+            return null;
+        }
+        try {
+            return resource.getContentAsByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read " + path, e);
+        }
+    }
+}
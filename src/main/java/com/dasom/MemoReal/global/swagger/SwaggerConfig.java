@@ -5,10 +5,16 @@ import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
+import io.swagger.v3.oas.models.servers.Server;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+
+// 런타임 스캔을 켠 경우(개발, 빌드 때 문서 생성)에만 사용. 운영은 OpenApiSpecController 가 빌드 결과를 내려줌
 @Configuration
+@ConditionalOnProperty(name = "springdoc.api-docs.enabled", matchIfMissing = true)
 public class SwaggerConfig {
 
     @Bean
@@ -25,6 +31,9 @@ public class SwaggerConfig {
                 .info(new Info()
                         .title("MemoReal web API")
                         .version("v1.0.0"))
+                // 비워 두면 springdoc 이 요청 받은 주소(빌드 때는 localhost:<임의 포트>)를 넣어서 빌드마다 문서가 달라지고
+                // 운영에서는 접속할 수 없는 주소가 됨. 상대 경로로 두면 문서를 받은 서버 기준
+                .servers(List.of(new Server().url("/")))
                 .components(new Components()
                         .addSecuritySchemes("bearerAuth", jwtAuthScheme))
                 .addSecurityItem(securityRequirement);
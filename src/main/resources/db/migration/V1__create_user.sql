@@ -0,0 +1,13 @@
+-- 기존에 ddl-auto: update 로 만들어진 스키마와 같은 구조
+-- 이미 user 테이블이 있는 DB 는 baseline(V1) 으로 표시되고 이 파일은 건너뜀
+CREATE TABLE IF NOT EXISTS user
+(
+    id        BIGINT       NOT NULL,
+    username  VARCHAR(255),
+    password  VARCHAR(255),
+    email     VARCHAR(255),
+    role_mask INT          DEFAULT 0 NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_email UNIQUE (email),
+    CONSTRAINT uk_user_username UNIQUE (username)
+);
@@ -0,0 +1,16 @@
+-- 메모. 목록은 최신순 keyset 페이지네이션으로만 읽음
+-- idx_memo_owner_created: (owner_id, created_at, id) 로 위치를 바로 찾고, title 까지 담아서 목록 조회가 인덱스만 읽음 (본문 행은 읽지 않음)
+-- 최신순으로 읽으므로 내림차순 인덱스 (MySQL 8 / H2 모두 지원)
+CREATE TABLE memo
+(
+    id         BIGINT         NOT NULL,
+    owner_id   BIGINT         NOT NULL,
+    title      VARCHAR(255)   NOT NULL,
+    content    VARCHAR(10000) NOT NULL,
+    created_at DATETIME(6)    NOT NULL,
+    updated_at DATETIME(6)    NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_memo_owner FOREIGN KEY (owner_id) REFERENCES user (id)
+);
+
+CREATE INDEX idx_memo_owner_created ON memo (owner_id, created_at DESC, id DESC, title);
@@ -0,0 +1,2 @@
+-- 검색 색인이 재시작 후 마지막 저장 이후 바뀐 메모만 다시 읽을 때 사용
+CREATE INDEX idx_memo_owner_updated ON memo (owner_id, updated_at);
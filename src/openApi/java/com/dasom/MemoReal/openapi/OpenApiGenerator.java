@@ -0,0 +1,65 @@
+package com.dasom.MemoReal.openapi;
+
+import com.dasom.MemoReal.MemoRealApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+// ./gradlew generateOpenApi 진입점 (bootJar 가 자동으로 실행)
+// openapi 프로필(메모리 H2)로 앱을 띄워서 springdoc 이 만든 문서를 받아 <출력 디렉터리>/openapi/openapi.json(.gz) 로 저장
+// 운영에서는 이 파일을 OpenApiSpecController 가 그대로 내려주므로 시작 시 컨트롤러 스캔을 하지 않음
+public class OpenApiGenerator {
+
+    public static void main(String[] args) throws Exception {
+        Path outputDir = Path.of(args[0]).resolve("openapi");
+        byte[] spec;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MemoRealApplication.class)
+                .profiles("openapi")
+                .properties("server.port=0")
+                .run()) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            spec = fetch("http://localhost:" + port + "/v3/api-docs");
+            // 빌드마다 같은 바이트(같은 ETag)가 나와야 하므로 임시 서버 주소가 들어가면 실패
+            if (new String(spec, StandardCharsets.UTF_8).contains("localhost:" + port)) {
+                throw new IllegalStateException("Generated spec contains the build-time server url; set servers explicitly");
+            }
+        }
+        Files.createDirectories(outputDir);
+        Files.write(outputDir.resolve("openapi.json"), spec);
+        writeGzip(outputDir.resolve("openapi.json.gz"), spec);
+        System.out.printf("OpenAPI spec written to %s (%d bytes)%n", outputDir, spec.length);
+        System.exit(0);
+    }
+
+    private static byte[] fetch(String url) throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(URI.create(url)).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + url + " returned " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    // 빌드 때 한 번만 압축하므로 최대 압축률로
+    private static void writeGzip(Path path, byte[] content) throws IOException {
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(path)) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            out.write(content);
+        }
+    }
+}
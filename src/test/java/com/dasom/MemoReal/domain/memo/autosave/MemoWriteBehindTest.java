@@ -0,0 +1,152 @@
+package com.dasom.MemoReal.domain.memo.autosave;
+
+import com.dasom.MemoReal.domain.memo.event.MemoChangedEvent;
+import com.dasom.MemoReal.global.datasource.ReadYourWrites;
+import com.dasom.MemoReal.global.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// H2 메모리 DB 의 memo 테이블(외래 키 없이)에 직접 쓰는 write-behind 버퍼 검증
+class MemoWriteBehindTest {
+
+    private static final long OWNER_ID = 1;
+    private static final String EMAIL = "owner@memoreal.com";
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private ReadYourWrites readYourWrites;
+    private final List<MemoChangedEvent> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:memo-write-behind;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readYourWrites = new ReadYourWrites(60_000);
+        jdbcTemplate.execute("CREATE TABLE memo (id BIGINT PRIMARY KEY, owner_id BIGINT NOT NULL, " +
+                "title VARCHAR(255) NOT NULL, content VARCHAR(10000) NOT NULL, " +
+                "created_at DATETIME(6) NOT NULL, updated_at DATETIME(6) NOT NULL)");
+        insertMemo(10, LocalDateTime.now().minusMinutes(1));
+        insertMemo(20, LocalDateTime.now().minusMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void repeatedEditsOfOneMemoAreWrittenOnce() {
+        MemoWriteBehind buffer = buffer(100, 60_000);
+        for (int i = 0; i < 50; i++) {
+            buffer.submit(PendingMemoEdit.of(10, OWNER_ID, EMAIL, "title " + i, "content " + i));
+        }
+        buffer.submit(PendingMemoEdit.of(20, OWNER_ID, EMAIL, "other", "other content"));
+
+        // 쓰기 전에도 조회는 마지막 변경을 봄
+        assertThat(buffer.find(10).title()).isEqualTo("title 49");
+        assertThat(title(10)).isEqualTo("title");
+
+        buffer.flush();
+
+        assertThat(title(10)).isEqualTo("title 49");
+        assertThat(title(20)).isEqualTo("other");
+        assertThat(buffer.getPendingCount()).isZero();
+        assertThat(buffer.writeAmplification()).isEqualTo(2.0 / 51);
+        assertThat(events).extracting(MemoChangedEvent::memoId).containsExactlyInAnyOrder(10L, 20L);
+    }
+
+    // flusher 스레드에는 인증 정보가 없으므로 소유자 키로 직접 기록해야 이후 읽기가 primary 로 감
+    @Test
+    void flushedOwnerReadsFromPrimaryForAWhile() {
+        MemoWriteBehind buffer = buffer(100, 60_000);
+        buffer.submit(PendingMemoEdit.of(10, OWNER_ID, EMAIL, "title", "content"));
+        assertThat(readYourWrites.callAs(EMAIL, readYourWrites::isSticky)).isFalse();
+
+        buffer.flush();
+
+        assertThat(buffer.find(10)).isNull();
+        assertThat(readYourWrites.callAs(EMAIL, readYourWrites::isSticky)).isTrue();
+        assertThat(readYourWrites.callAs("someone@else.com", readYourWrites::isSticky)).isFalse();
+    }
+
+    @Test
+    void olderEditDoesNotOverwriteNewerRowOrOtherOwnersMemo() {
+        jdbcTemplate.update("UPDATE memo SET updated_at = ? WHERE id = 10", LocalDateTime.now().plusMinutes(1));
+        MemoWriteBehind buffer = buffer(100, 60_000);
+        buffer.submit(PendingMemoEdit.of(10, OWNER_ID, EMAIL, "stale", "stale"));
+        buffer.submit(PendingMemoEdit.of(20, OWNER_ID + 1, EMAIL, "not mine", "not mine"));
+
+        buffer.flush();
+
+        assertThat(title(10)).isEqualTo("title");
+        assertThat(title(20)).isEqualTo("title");
+        assertThat(buffer.getPendingCount()).isZero();
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void fullBufferRejectsNewMemoButStillCoalesces() {
+        MemoWriteBehind buffer = buffer(1, 60_000);
+        buffer.submit(PendingMemoEdit.of(10, OWNER_ID, EMAIL, "a", "a"));
+        buffer.submit(PendingMemoEdit.of(10, OWNER_ID, EMAIL, "b", "b"));
+
+        assertThatThrownBy(() -> buffer.submit(PendingMemoEdit.of(20, OWNER_ID, EMAIL, "c", "c")))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        buffer.flush();
+        buffer.submit(PendingMemoEdit.of(20, OWNER_ID, EMAIL, "c", "c"));
+        assertThat(buffer.find(20).title()).isEqualTo("c");
+    }
+
+    @Test
+    void discardedEditIsNotWritten() {
+        MemoWriteBehind buffer = buffer(100, 60_000);
+        buffer.submit(PendingMemoEdit.of(10, OWNER_ID, EMAIL, "autosaved", "autosaved"));
+        buffer.discard(10);
+
+        buffer.flush();
+
+        assertThat(title(10)).isEqualTo("title");
+    }
+
+    @Test
+    void stopWritesEverythingPending() {
+        MemoWriteBehind buffer = buffer(100, 60_000);
+        buffer.start();
+        buffer.submit(PendingMemoEdit.of(10, OWNER_ID, EMAIL, "before shutdown", "content"));
+
+        buffer.stop();
+
+        assertThat(title(10)).isEqualTo("before shutdown");
+        assertThat(buffer.isRunning()).isFalse();
+    }
+
+    private MemoWriteBehind buffer(int maxPending, long flushIntervalMillis) {
+        MemoAutosaveProperties properties = new MemoAutosaveProperties(flushIntervalMillis, 200, maxPending,
+                64L * 1024 * 1024, 10, 1);
+        return new MemoWriteBehind(jdbcTemplate, new DataSourceTransactionManager(dataSource),
+                event -> events.add((MemoChangedEvent) event), readYourWrites, properties, new SimpleMeterRegistry());
+    }
+
+    private void insertMemo(long id, LocalDateTime at) {
+        jdbcTemplate.update("INSERT INTO memo (id, owner_id, title, content, created_at, updated_at) " +
+                "VALUES (?, ?, 'title', 'content', ?, ?)", id, OWNER_ID, at, at);
+    }
+
+    private String title(long id) {
+        return jdbcTemplate.queryForObject("SELECT title FROM memo WHERE id = ?", String.class, id);
+    }
+}
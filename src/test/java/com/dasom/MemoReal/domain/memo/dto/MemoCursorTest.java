@@ -0,0 +1,44 @@
+package com.dasom.MemoReal.domain.memo.dto;
+
+import com.dasom.MemoReal.global.exception.BusinessException;
+import com.dasom.MemoReal.global.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MemoCursorTest {
+
+    @Test
+    void roundTripKeepsMicrosecondPrecision() {
+        MemoCursor cursor = new MemoCursor(LocalDateTime.of(2026, 10, 18, 12, 30, 15, 123_456_000), 42);
+
+        assertThat(MemoCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    // 형식은 맞지만 시각이 범위를 벗어난 토큰도 500 이 아니라 잘못된 커서로 거절
+    @Test
+    void malformedOrOutOfRangeTokensAreInvalidCursors() {
+        assertInvalid("not base64!");
+        assertInvalid(Base64.getUrlEncoder().encodeToString(new byte[3]));
+        assertInvalid(token((byte) 2, 0, 1));
+        assertInvalid(token((byte) 1, Long.MAX_VALUE, 1));
+        assertInvalid(token((byte) 1, Long.MIN_VALUE, 1));
+    }
+
+    private static String token(byte version, long micros, long id) {
+        byte[] bytes = ByteBuffer.allocate(1 + Long.BYTES * 2).put(version).putLong(micros).putLong(id).array();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static void assertInvalid(String token) {
+        assertThatThrownBy(() -> MemoCursor.decode(token))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_CURSOR);
+    }
+}
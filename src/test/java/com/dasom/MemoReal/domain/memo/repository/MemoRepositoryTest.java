@@ -0,0 +1,117 @@
+package com.dasom.MemoReal.domain.memo.repository;
+
+import com.dasom.MemoReal.domain.memo.dto.MemoCursor;
+import com.dasom.MemoReal.domain.memo.dto.MemoSummaryDTO;
+import com.dasom.MemoReal.domain.memo.entity.Memo;
+import com.dasom.MemoReal.domain.user.entity.Role;
+import com.dasom.MemoReal.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:memo-repository;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MemoRepositoryTest {
+
+    private static final int PAGE_SIZE = 7;
+
+    @Autowired
+    private MemoRepository memoRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User owner;
+    private User other;
+
+    @BeforeEach
+    void setUp() {
+        owner = saveUser("owner");
+        other = saveUser("other");
+    }
+
+    // created_at 이 같은 메모가 여러 개여도 (created_at, id) 순서로 빠짐이나 중복 없이 끝까지 넘어가는지
+    @Test
+    void keysetPagesVisitEveryMemoOnceInLatestFirstOrder() {
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            expected.add(saveMemo(owner, "memo-" + i).getId());
+            saveMemo(other, "other-" + i);
+        }
+        // 절반은 같은 시각으로 맞춰서 id 로만 순서가 갈리게 함
+        entityManager.createQuery("update Memo m set m.createdAt = :time where m.title like 'memo-1%' or m.title like 'memo-2%'")
+                .setParameter("time", LocalDateTime.of(2025, 1, 1, 0, 0))
+                .executeUpdate();
+        entityManager.clear();
+
+        List<MemoSummaryDTO> visited = new ArrayList<>();
+        List<MemoSummaryDTO> page = memoRepository.findLatest(owner.getId(), Limit.of(PAGE_SIZE));
+        while (!page.isEmpty()) {
+            visited.addAll(page);
+            // 커서 토큰을 거쳐서 다음 위치를 얻음
+            MemoCursor cursor = MemoCursor.decode(MemoCursor.of(page.get(page.size() - 1)).encode());
+            page = memoRepository.findLatestBefore(owner.getId(), cursor.createdAt(), cursor.id(), Limit.of(PAGE_SIZE));
+        }
+
+        assertThat(visited).extracting(MemoSummaryDTO::getId).containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(visited).isSortedAccordingTo(Comparator.comparing(MemoSummaryDTO::getCreatedAt)
+                .thenComparing(MemoSummaryDTO::getId).reversed());
+    }
+
+    // 목록은 DTO projection 이라 Memo 엔티티가 영속성 컨텍스트에 올라가지 않음
+    @Test
+    void latestPageDoesNotLoadEntities() {
+        saveMemo(owner, "title");
+        entityManager.clear();
+
+        List<MemoSummaryDTO> page = memoRepository.findLatest(owner.getId(), Limit.of(PAGE_SIZE));
+
+        assertThat(page).extracting(MemoSummaryDTO::getTitle).containsExactly("title");
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    void otherUsersMemoIsNotFound() {
+        Memo memo = saveMemo(owner, "private");
+
+        assertThat(memoRepository.findByIdAndOwnerId(memo.getId(), other.getId())).isEmpty();
+        assertThat(memoRepository.deleteByIdAndOwnerId(memo.getId(), other.getId())).isZero();
+        assertThat(memoRepository.findByIdAndOwnerId(memo.getId(), owner.getId())).isPresent();
+    }
+
+    private User saveUser(String name) {
+        User user = User.builder()
+                .username(name)
+                .email(name + "@memoreal.com")
+                .password("encoded")
+                .roleMask(Role.USER.getBit())
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    private Memo saveMemo(User user, String title) {
+        Memo memo = memoRepository.save(Memo.builder()
+                .owner(user)
+                .title(title)
+                .content("content of " + title)
+                .build());
+        entityManager.flush();
+        return memo;
+    }
+}
@@ -0,0 +1,97 @@
+package com.dasom.MemoReal.domain.search.index;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserIndexTest {
+
+    private static final double MIN_SHOULD_MATCH = 0.6;
+
+    @Test
+    void findsKoreanSubstringsAndRanksCloserMatchesFirst() {
+        UserIndex index = new UserIndex(null);
+        index.put(1, "오늘 회의록\n다음 주 배포 일정 정리", 1);
+        index.put(2, "장보기\n우유, 계란, 회의 간식", 2);
+        index.put(3, "배포 체크리스트\n배포 전 회의에서 일정 확인", 3);
+
+        assertThat(memoIds(index.search("배포 일정", 10, MIN_SHOULD_MATCH))).containsExactly(3L, 1L);
+        // 조사가 붙은 형태도 부분 일치로 찾음
+        assertThat(memoIds(index.search("회의", 10, MIN_SHOULD_MATCH))).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(index.search("출장", 10, MIN_SHOULD_MATCH)).isEmpty();
+    }
+
+    @Test
+    void updatesAndDeletesAreVisibleImmediately() {
+        UserIndex index = new UserIndex(null);
+        index.put(1, "여행 준비물", 1);
+        index.put(2, "여행 일정", 2);
+
+        index.put(1, "운동 계획", 3);
+        index.remove(2);
+
+        assertThat(index.search("여행", 10, MIN_SHOULD_MATCH)).isEmpty();
+        assertThat(memoIds(index.search("운동", 10, MIN_SHOULD_MATCH))).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    // 저장한 세그먼트를 다시 열어도 같은 결과이고, 그 위에 계속 갱신할 수 있어야 함
+    @Test
+    void segmentRoundTripKeepsResultsAndAcceptsNewChanges(@TempDir Path dir) throws Exception {
+        Path path = dir.resolve("1.seg");
+        UserIndex index = new UserIndex(null);
+        for (int i = 0; i < 500; i++) {
+            index.put(i, "메모 " + i + " 프로젝트 MemoReal 검색 테스트", i);
+        }
+        index.put(1000, "특별한 키워드 가나다라", 1000);
+        index.remove(10);
+        index.writeTo(path);
+        assertThat(index.isDirty()).isFalse();
+
+        UserIndex reopened = new UserIndex(Segment.open(path));
+        assertThat(reopened.size()).isEqualTo(500);
+        assertThat(reopened.asOfMicros()).isEqualTo(1000);
+        assertThat(memoIds(reopened.search("가나다", 10, MIN_SHOULD_MATCH))).containsExactly(1000L);
+        assertThat(memoIds(reopened.search("memoreal", 1000, MIN_SHOULD_MATCH)))
+                .hasSize(499)
+                .doesNotContain(10L);
+
+        reopened.put(1000, "키워드 변경", 1001);
+        reopened.put(2000, "새 메모 가나다라", 1002);
+        assertThat(memoIds(reopened.search("가나다", 10, MIN_SHOULD_MATCH))).containsExactly(2000L);
+        reopened.writeTo(path);
+        assertThat(memoIds(new UserIndex(Segment.open(path)).search("가나다", 10, MIN_SHOULD_MATCH)))
+                .containsExactly(2000L);
+    }
+
+    // 이벤트와 DB 재조회로 같은 변경이 다시 오거나 늦게 온 이전 버전은 무시 (세그먼트로 저장한 뒤에도)
+    @Test
+    void sameOrOlderVersionsAreIgnored(@TempDir Path dir) throws Exception {
+        UserIndex index = new UserIndex(null);
+        assertThat(index.put(1, "새 버전", 20)).isTrue();
+        assertThat(index.put(1, "새 버전", 20)).isFalse();
+        assertThat(index.put(1, "옛날 버전", 10)).isFalse();
+        index.writeTo(dir.resolve("1.seg"));
+
+        UserIndex reopened = new UserIndex(Segment.open(dir.resolve("1.seg")));
+        assertThat(reopened.put(1, "옛날 버전", 10)).isFalse();
+        assertThat(reopened.isDirty()).isFalse();
+        assertThat(memoIds(reopened.search("새 버전", 10, MIN_SHOULD_MATCH))).containsExactly(1L);
+        assertThat(reopened.search("옛날", 10, MIN_SHOULD_MATCH)).isEmpty();
+    }
+
+    @Test
+    void gramsIgnoreCaseWidthAndPunctuation() {
+        assertThat(GramTokenizer.grams("ＡＢ")).containsExactly(GramTokenizer.grams("ab"));
+        assertThat(GramTokenizer.grams("a, b")).isEmpty();
+        assertThat(GramTokenizer.grams("가나다")).hasSize(3);
+    }
+
+    private static List<Long> memoIds(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::memoId).toList();
+    }
+}
@@ -0,0 +1,70 @@
+package com.dasom.MemoReal.domain.user.migration;
+
+import com.dasom.MemoReal.domain.user.entity.Role;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// ddl-auto: update 로 만들어진 (user-006 이전) 스키마를 baseline 으로 표시하고 V2 부터 올렸을 때
+// role_mask 컬럼과 unique 제약이 생기고 권한이 옮겨지는지 확인
+class V2__MigrateUserRolesToRoleMaskTest {
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:baseline-schema;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE user (id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "username VARCHAR(255), password VARCHAR(255), email VARCHAR(255))");
+        jdbcTemplate.execute("CREATE TABLE user_roles (user_id BIGINT NOT NULL, roles VARCHAR(255))");
+        jdbcTemplate.update("INSERT INTO user (id, username, password, email) VALUES (1, 'admin', 'p', 'admin@memoreal.com')");
+        jdbcTemplate.update("INSERT INTO user (id, username, password, email) VALUES (2, 'member', 'p', 'member@memoreal.com')");
+        jdbcTemplate.update("INSERT INTO user_roles (user_id, roles) VALUES (1, 'USER'), (1, 'ADMIN'), (2, 'USER')");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void baselinedSchemaGetsRoleMaskAndUniqueConstraints() {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .javaMigrations(new V2__MigrateUserRolesToRoleMask())
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        assertThat(roleMask(1)).isEqualTo(Role.USER.getBit() | Role.ADMIN.getBit());
+        assertThat(roleMask(2)).isEqualTo(Role.USER.getBit());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_roles_migrated", Integer.class)).isEqualTo(3);
+
+        // UserService / UserBulkService 가 제약 이름으로 중복 종류를 구분
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "INSERT INTO user (id, username, password, email) VALUES (3, 'other', 'p', 'admin@memoreal.com')"))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .hasMessageContaining("UK_USER_EMAIL");
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "INSERT INTO user (id, username, password, email) VALUES (3, 'member', 'p', 'other@memoreal.com')"))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .hasMessageContaining("UK_USER_USERNAME");
+    }
+
+    private int roleMask(long id) {
+        return jdbcTemplate.queryForObject("SELECT role_mask FROM user WHERE id = ?", Integer.class, id);
+    }
+}
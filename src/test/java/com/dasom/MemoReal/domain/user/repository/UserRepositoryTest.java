@@ -0,0 +1,55 @@
+package com.dasom.MemoReal.domain.user.repository;
+
+import com.dasom.MemoReal.domain.user.entity.Role;
+import com.dasom.MemoReal.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-repository;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void findByEmailLoadsUserAndRolesInOneQuery() {
+        userRepository.save(User.builder()
+                .username("tester")
+                .email("tester@memoreal.com")
+                .password("encoded")
+                .roleMask(Role.USER.getBit() | Role.ADMIN.getBit())
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        User user = userRepository.findByEmail("tester@memoreal.com").orElseThrow();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(user.getRoles()).containsExactly("USER", "ADMIN");
+        assertThat(user.getAuthorities()).isSameAs(Role.authoritiesOf(user.getRoleMask()));
+    }
+}
@@ -0,0 +1,125 @@
+package com.dasom.MemoReal.domain.user.repository;
+
+import com.dasom.MemoReal.domain.user.entity.Role;
+import com.dasom.MemoReal.domain.user.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 실제 로그인처럼 조회마다 별도 트랜잭션(별도 영속성 컨텍스트)으로 실행해서 1차 캐시가 아닌 2차 캐시만 확인
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-cache;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserSecondLevelCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void repeatedLoginLookupsHitNoDatabaseAfterWarmUp() {
+        saveUser("cached@memoreal.com", "cached");
+        entityManagerFactory.getCache().evictAll();
+
+        // 워밍업: 캐시가 비어 있으므로 한 번은 DB 조회
+        statistics.clear();
+        assertThat(userRepository.findByEmail("cached@memoreal.com")).isPresent();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        for (int i = 0; i < 10; i++) {
+            User user = userRepository.findByEmail("cached@memoreal.com").orElseThrow();
+            assertThat(user.getUsername()).isEqualTo("cached");
+            assertThat(user.getRoles()).containsExactly("USER");
+        }
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(10);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThanOrEqualTo(10);
+    }
+
+    @Test
+    void joinPopulatesCacheSoFirstLoginSkipsDatabase() {
+        saveUser("joined@memoreal.com", "joined");
+
+        statistics.clear();
+        assertThat(userRepository.findByEmail("joined@memoreal.com")).isPresent();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void passwordChangeUpdatesCachedEntry() {
+        Long id = saveUser("rehash@memoreal.com", "rehash").getId();
+        userRepository.findByEmail("rehash@memoreal.com").orElseThrow();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                userRepository.findById(id).orElseThrow().changePassword("rehashed"));
+
+        statistics.clear();
+        User user = userRepository.findByEmail("rehash@memoreal.com").orElseThrow();
+        assertThat(user.getPassword()).isEqualTo("rehashed");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    // 조건부 수정은 읽었던 해시가 그대로일 때만 바뀌고, 바뀌면 이 사용자 엔트리만 다시 읽음
+    @Test
+    void conditionalPasswordUpdateSkipsStaleHashAndEvictsOnlyThatUser() {
+        Long id = saveUser("cas@memoreal.com", "cas").getId();
+        saveUser("other@memoreal.com", "other");
+        userRepository.findByEmail("cas@memoreal.com").orElseThrow();
+        userRepository.findByEmail("other@memoreal.com").orElseThrow();
+
+        assertThat(userRepository.updatePasswordIfUnchanged(id, "stale", "rehashed")).isZero();
+        assertThat(userRepository.updatePasswordIfUnchanged(id, "encoded", "rehashed")).isEqualTo(1);
+        assertThat(userRepository.updatePasswordIfUnchanged(id, "encoded", "rehashed again")).isZero();
+
+        statistics.clear();
+        assertThat(userRepository.findByEmail("other@memoreal.com").orElseThrow().getPassword()).isEqualTo("encoded");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(userRepository.findByEmail("cas@memoreal.com").orElseThrow().getPassword()).isEqualTo("rehashed");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void unknownEmailIsNotCachedAsMissing() {
+        assertThat(userRepository.findByEmail("late@memoreal.com")).isEmpty();
+        saveUser("late@memoreal.com", "late");
+
+        assertThat(userRepository.findByEmail("late@memoreal.com")).isPresent();
+    }
+
+    private User saveUser(String email, String username) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .email(email)
+                .password("encoded")
+                .roleMask(Role.USER.getBit())
+                .build());
+    }
+}
@@ -0,0 +1,135 @@
+package com.dasom.MemoReal.global.accesslog;
+
+import com.dasom.MemoReal.global.accesslog.AccessLogProperties.FullPolicy;
+import com.dasom.MemoReal.global.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// writer 스레드 없이(enabled=false) 링 버퍼를 직접 비우면서 요청 스레드 쪽 동작 검증
+class AccessLogTest {
+
+    private static final String METHOD = "POST";
+    private static final String ROUTE = "/api/users/login";
+
+    @AfterEach
+    void tearDown() {
+        RequestTimings.end();
+    }
+
+    // 요청 하나를 기록하는 경로(begin -> 시간 합산 -> record -> end)가 힙 할당을 하지 않는지
+    // 슬롯을 다 쓸 때까지 기록한 뒤 현재 스레드가 할당한 바이트 수를 비교 (버퍼 비우기는 측정 밖에서)
+    @Test
+    void recordingDoesNotAllocate() {
+        AccessLog accessLog = new AccessLog(properties(1024, FullPolicy.DROP, 0, null));
+        int perRound = accessLog.ring().capacity() - 1;
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        // JIT 워밍업 + ThreadLocal 엔트리 생성
+        for (int i = 0; i < 50; i++) {
+            recordRequests(accessLog, perRound);
+            drain(accessLog);
+        }
+
+        long overhead = measuringOverhead(threads);
+        long before = threads.getCurrentThreadAllocatedBytes();
+        recordRequests(accessLog, perRound);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before - overhead;
+
+        assertThat(allocated).isLessThanOrEqualTo(0);
+        assertThat(drain(accessLog)).isEqualTo(perRound);
+        assertThat(accessLog.getDroppedCount()).isZero();
+    }
+
+    @Test
+    void dropPolicyCountsEventsThatDoNotFit() {
+        AccessLog accessLog = new AccessLog(properties(16, FullPolicy.DROP, 0, null));
+
+        recordRequests(accessLog, 20);
+
+        assertThat(accessLog.getDroppedCount()).isEqualTo(4);
+        assertThat(drain(accessLog)).isEqualTo(16);
+        recordRequests(accessLog, 1);
+        assertThat(accessLog.getDroppedCount()).isEqualTo(4);
+    }
+
+    @Test
+    void blockPolicyWaitsThenDrops() {
+        AccessLog accessLog = new AccessLog(properties(16, FullPolicy.BLOCK, 20, null));
+        recordRequests(accessLog, 16);
+
+        long start = System.nanoTime();
+        recordRequests(accessLog, 1);
+        long waited = System.nanoTime() - start;
+
+        assertThat(accessLog.getDroppedCount()).isEqualTo(1);
+        assertThat(waited).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20));
+    }
+
+    @Test
+    void writerAppendsJsonLines(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("access.log");
+        AccessLog accessLog = new AccessLog(properties(16, FullPolicy.DROP, 0, file));
+        accessLog.start();
+        try {
+            RequestTimings timings = RequestTimings.begin();
+            RequestTimings.addJwt(TimeUnit.MICROSECONDS.toNanos(120));
+            RequestTimings.addHashing(TimeUnit.MILLISECONDS.toNanos(50));
+            RequestTimings.setPrincipal(42);
+            RequestTimings.setErrorCode(ErrorCode.INVALID_PASSWORD);
+            accessLog.record(METHOD, "/api/\"quoted\"", 401, timings, System.nanoTime());
+            RequestTimings.end();
+        } finally {
+            accessLog.stop();
+        }
+
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0))
+                .startsWith("{\"ts\":\"")
+                .contains("\"method\":\"POST\"", "\"route\":\"/api/\\\"quoted\\\"\"", "\"status\":401",
+                        "\"uid\":\"42\"", "\"error\":\"" + ErrorCode.INVALID_PASSWORD.getCode() + "\"",
+                        "\"jwt_ms\":0.120", "\"hash_ms\":50.000", "\"db_ms\":0.000")
+                .endsWith("}");
+    }
+
+    private static void recordRequests(AccessLog accessLog, int count) {
+        for (int i = 0; i < count; i++) {
+            RequestTimings timings = RequestTimings.begin();
+            RequestTimings.addJwt(1_000);
+            RequestTimings.addHashing(2_000);
+            RequestTimings.addDb(3_000);
+            RequestTimings.setPrincipal(i);
+            accessLog.record(METHOD, ROUTE, 200, timings, System.nanoTime());
+            RequestTimings.end();
+        }
+    }
+
+    private static int drain(AccessLog accessLog) {
+        return accessLog.ring().drain(event -> {
+        }, Integer.MAX_VALUE);
+    }
+
+    // getCurrentThreadAllocatedBytes 호출 자체가 할당하는 양
+    private static long measuringOverhead(com.sun.management.ThreadMXBean threads) {
+        long overhead = Long.MAX_VALUE;
+        for (int i = 0; i < 10; i++) {
+            long before = threads.getCurrentThreadAllocatedBytes();
+            overhead = Math.min(overhead, threads.getCurrentThreadAllocatedBytes() - before);
+        }
+        return overhead;
+    }
+
+    private static AccessLogProperties properties(int bufferSize, FullPolicy whenFull, long blockMillis, Path path) {
+        return new AccessLogProperties(path != null, path != null ? path.toString() : "unused.log",
+                bufferSize, whenFull, blockMillis, 256, 104857600, 5);
+    }
+}
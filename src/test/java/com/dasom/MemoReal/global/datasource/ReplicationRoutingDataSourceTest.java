@@ -0,0 +1,109 @@
+package com.dasom.MemoReal.global.datasource;
+
+import com.dasom.MemoReal.global.datasource.ReplicationRoutingDataSource.ReplicaNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// primary / replica 역할의 H2 메모리 DB 두 개로 라우팅 검증. 각 DB 의 node 테이블에 자기 이름이 들어 있음
+class ReplicationRoutingDataSourceTest {
+
+    private static final long STICKY_WINDOW_MILLIS = 200;
+
+    private DataSource primary;
+    private DataSource replica;
+    private ReplicaNode replicaNode;
+    private ReadYourWrites readYourWrites;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = embedded("primary");
+        replica = embedded("replica");
+        replicaNode = new ReplicaNode("replica-0", replica);
+        readYourWrites = new ReadYourWrites(STICKY_WINDOW_MILLIS);
+        ReplicationRoutingDataSource routing = new ReplicationRoutingDataSource(primary, List.of(replicaNode),
+                readYourWrites, 10, "", new SimpleMeterRegistry());
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(primary).execute("DROP ALL OBJECTS");
+        new JdbcTemplate(replica).execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() {
+        assertThat(readOnlyTransaction.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    void writeTransactionGoesToPrimary() {
+        assertThat(writeTransaction.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    @Test
+    void readsStickToPrimaryRightAfterOwnWrite() throws InterruptedException {
+        readYourWrites.callAs("writer@memoreal.com", () -> writeTransaction.execute(status -> currentNode()));
+
+        assertThat(readYourWrites.callAs("writer@memoreal.com",
+                () -> readOnlyTransaction.execute(status -> currentNode()))).isEqualTo("primary");
+        assertThat(readYourWrites.callAs("other@memoreal.com",
+                () -> readOnlyTransaction.execute(status -> currentNode()))).isEqualTo("replica");
+
+        Thread.sleep(STICKY_WINDOW_MILLIS * 2);
+        assertThat(readYourWrites.callAs("writer@memoreal.com",
+                () -> readOnlyTransaction.execute(status -> currentNode()))).isEqualTo("replica");
+    }
+
+    @Test
+    void unhealthyReplicaFallsBackToPrimary() {
+        replicaNode.update(Double.NaN, false);
+
+        assertThat(readOnlyTransaction.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    @Test
+    void healthCheckRestoresReplica() {
+        replicaNode.update(Double.NaN, false);
+
+        ReplicationRoutingDataSource routing = new ReplicationRoutingDataSource(primary, List.of(replicaNode),
+                readYourWrites, 10, "", new SimpleMeterRegistry());
+        routing.checkReplicas();
+
+        assertThat(replicaNode.healthy()).isTrue();
+        assertThat(readOnlyTransaction.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource embedded(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(16))");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,77 @@
+package com.dasom.MemoReal.global.ratelimit;
+
+import com.dasom.MemoReal.global.exception.ErrorResponses;
+import com.dasom.MemoReal.global.ratelimit.RateLimitProperties.KeyType;
+import com.dasom.MemoReal.global.ratelimit.RateLimitProperties.Rule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 요청 하나만 허용하는 규칙으로 경로 매칭과 이메일 키 추출 검증
+class RateLimitFilterTest {
+
+    private static final String LOGIN = "/api/users/login";
+
+    @Test
+    void encodedOrDecoratedPathsShareTheLoginLimit() throws Exception {
+        RateLimitFilter filter = filter(new Rule("login-ip", "POST", LOGIN, KeyType.IP, 1, 0.001));
+        assertThat(send(filter, request("", LOGIN, null)).getStatus()).isEqualTo(200);
+
+        assertThat(send(filter, request("", "/api/users/%6Cogin", null)).getStatus()).isEqualTo(429);
+        assertThat(send(filter, request("", LOGIN + ";x", null)).getStatus()).isEqualTo(429);
+        assertThat(send(filter, request("/app", "/app" + LOGIN, null)).getStatus()).isEqualTo(429);
+        // 다른 경로는 규칙 없음
+        assertThat(send(filter, request("", "/api/users/join", null)).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void emailLimitIsPerEmail() throws Exception {
+        RateLimitFilter filter = filter(new Rule("login-email", "POST", LOGIN, KeyType.EMAIL, 1, 0.001));
+        assertThat(send(filter, request("", LOGIN, "{\"email\":\"victim@a.com\",\"password\":\"1\"}")).getStatus())
+                .isEqualTo(200);
+
+        assertThat(send(filter, request("", LOGIN, "{\"email\":\" Victim@A.com \",\"password\":\"2\"}")).getStatus())
+                .isEqualTo(429);
+        assertThat(send(filter, request("", LOGIN, "{\"email\":\"other@a.com\",\"password\":\"3\"}")).getStatus())
+                .isEqualTo(200);
+    }
+
+    @Test
+    void duplicateEmailFieldIsRejected() throws Exception {
+        RateLimitFilter filter = filter(new Rule("login-email", "POST", LOGIN, KeyType.EMAIL, 1, 0.001));
+        String body = "{\"email\":\"junk@a.com\",\"email\":\"victim@a.com\",\"password\":\"1\"}";
+
+        MockHttpServletResponse response = send(filter, request("", LOGIN, body));
+
+        assertThat(response.getStatus()).isEqualTo(400);
+    }
+
+    private static RateLimitFilter filter(Rule rule) {
+        RateLimiter rateLimiter = new RateLimiter(new RateLimitProperties(true, 1000, 4, 16384, List.of(rule)));
+        return new RateLimitFilter(rateLimiter, new ErrorResponses(new ObjectMapper()));
+    }
+
+    private static MockHttpServletRequest request(String contextPath, String uri, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setContextPath(contextPath);
+        request.setRemoteAddr("10.0.0.1");
+        if (body != null) {
+            request.setContentType("application/json");
+            request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return request;
+    }
+
+    private static MockHttpServletResponse send(RateLimitFilter filter, MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}